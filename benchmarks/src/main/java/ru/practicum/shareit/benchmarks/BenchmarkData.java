@@ -0,0 +1,141 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.comment.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.toList;
+
+public class BenchmarkData {
+    public static final long OWNER_ID = 1L;
+    public static final long BOOKER_ID = 2L;
+    public static final long REQUESTER_ID = 3L;
+    public static final long HOT_ITEM_ID = 1L;
+
+    public static final int ITEM_COUNT = 1_000;
+    public static final int HOT_ITEM_BOOKINGS = 10_000;
+    public static final int BOOKINGS_PER_ITEM = 10;
+    public static final int COMMENTS_PER_ITEM = 2;
+    public static final int REQUEST_COUNT = 200;
+
+    private final User owner;
+    private final User booker;
+    private final User requester;
+    private final List<ItemRequest> requests = new ArrayList<>();
+    private final List<Item> items = new ArrayList<>();
+    private final List<Booking> bookings = new ArrayList<>();
+    private final List<Comment> comments = new ArrayList<>();
+
+    public BenchmarkData(LocalDateTime now) {
+        owner = User.builder().id(OWNER_ID).name("Owner").email("owner@benchmarks.ru").build();
+        booker = User.builder().id(BOOKER_ID).name("Booker").email("booker@benchmarks.ru").build();
+        requester = User.builder().id(REQUESTER_ID).name("Requester").email("requester@benchmarks.ru").build();
+
+        for (long id = 1; id <= REQUEST_COUNT; id++) {
+            requests.add(ItemRequest.builder()
+                    .id(id)
+                    .description("Запрос " + id)
+                    .requester(requester)
+                    .created(now.minusHours(id))
+                    .build());
+        }
+
+        for (long id = 1; id <= ITEM_COUNT; id++) {
+            Item item = Item.builder()
+                    .id(id)
+                    .name("Вещь " + id)
+                    .description("Описание вещи " + id)
+                    .available(true)
+                    .owner(owner)
+                    .itemRequest(requests.get((int) ((id - 1) % REQUEST_COUNT)))
+                    .version(0L)
+                    .build();
+            items.add(item);
+
+            addBookings(item, id == HOT_ITEM_ID ? HOT_ITEM_BOOKINGS : BOOKINGS_PER_ITEM, now);
+
+            for (int i = 0; i < COMMENTS_PER_ITEM; i++) {
+                comments.add(Comment.builder()
+                        .id((long) comments.size() + 1)
+                        .text("Отзыв " + i + " о вещи " + id)
+                        .item(item)
+                        .author(booker)
+                        .created(now.minusDays(i + 1))
+                        .build());
+            }
+        }
+    }
+
+    public void insert(JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.batchUpdate("insert into users (user_id, user_name, email) values (?, ?, ?)",
+                rows(List.of(owner, booker, requester), user -> new Object[]{
+                        user.getId(), user.getName(), user.getEmail()}));
+
+        jdbcTemplate.batchUpdate("insert into requests (request_id, request_description, requester_id, create_date) " +
+                "values (?, ?, ?, ?)", rows(requests, request -> new Object[]{
+                request.getId(), request.getDescription(), request.getRequester().getId(),
+                Timestamp.valueOf(request.getCreated())}));
+
+        jdbcTemplate.batchUpdate("insert into items (item_id, item_name, description, available, owner_id, request_id) " +
+                "values (?, ?, ?, ?, ?, ?)", rows(items, item -> new Object[]{
+                item.getId(), item.getName(), item.getDescription(), item.getAvailable(), item.getOwner().getId(),
+                item.getItemRequest().getId()}));
+
+        jdbcTemplate.batchUpdate("insert into bookings (booking_id, start_date, end_date, item_id, booker_id, status) " +
+                "values (?, ?, ?, ?, ?, ?)", rows(bookings, booking -> new Object[]{
+                booking.getId(), Timestamp.valueOf(booking.getStart()), Timestamp.valueOf(booking.getEnd()),
+                booking.getItem().getId(), booking.getUser().getId(), booking.getStatus().name()}));
+
+        jdbcTemplate.batchUpdate("insert into comments (comment_id, comment_text, item_id, author_id, created_date) " +
+                "values (?, ?, ?, ?, ?)", rows(comments, comment -> new Object[]{
+                comment.getId(), comment.getText(), comment.getItem().getId(), comment.getAuthor().getId(),
+                Timestamp.valueOf(comment.getCreated())}));
+    }
+
+    public List<ItemRequest> getRequests() {
+        return requests;
+    }
+
+    public List<Item> getItems() {
+        return items;
+    }
+
+    public List<Booking> getBookings() {
+        return bookings;
+    }
+
+    public List<Comment> getComments() {
+        return comments;
+    }
+
+    private void addBookings(Item item, int count, LocalDateTime now) {
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = now.plusHours(2L * (i - count / 2));
+
+            bookings.add(Booking.builder()
+                    .id((long) bookings.size() + 1)
+                    .start(start)
+                    .end(start.plusHours(1))
+                    .item(item)
+                    .user(booker)
+                    .status(i % 10 == 0 ? BookingStatus.WAITING : i % 10 == 1 ? BookingStatus.REJECTED
+                            : BookingStatus.APPROVED)
+                    .version(0L)
+                    .build());
+        }
+    }
+
+    private static <T> List<Object[]> rows(List<T> entities, Function<T, Object[]> row) {
+        return entities.stream().map(row).collect(toList());
+    }
+}
@@ -0,0 +1,38 @@
+package ru.practicum.shareit.benchmarks;
+
+import java.lang.reflect.Proxy;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+public class InMemoryRepositories<T> {
+    private final Class<T> type;
+    private final Map<String, Function<Object[], Object>> answers = new HashMap<>();
+
+    private InMemoryRepositories(Class<T> type) {
+        this.type = type;
+    }
+
+    public static <T> InMemoryRepositories<T> fake(Class<T> type) {
+        return new InMemoryRepositories<>(type);
+    }
+
+    public InMemoryRepositories<T> answer(String method, Function<Object[], Object> answer) {
+        answers.put(method, answer);
+        return this;
+    }
+
+    public T build() {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    Function<Object[], Object> answer = answers.get(method.getName());
+
+                    if (answer == null) {
+                        throw new UnsupportedOperationException("Метод " + type.getSimpleName() + "."
+                                + method.getName() + " не поддерживается");
+                    }
+
+                    return answer.apply(args);
+                }));
+    }
+}
@@ -0,0 +1,184 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.cache.support.NoOpCacheManager;
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.booking.storage.BookingRepository;
+import ru.practicum.shareit.item.comment.Comment;
+import ru.practicum.shareit.item.comment.CommentRepository;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemServiceImpl;
+import ru.practicum.shareit.item.service.ItemViewCache;
+import ru.practicum.shareit.item.storage.ItemRepository;
+import ru.practicum.shareit.request.dto.ItemRequestGetResponseDto;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.service.ItemRequestServiceImpl;
+import ru.practicum.shareit.request.storage.ItemRequestRepository;
+import ru.practicum.shareit.user.storage.UserRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+
+import static java.util.stream.Collectors.groupingBy;
+import static java.util.stream.Collectors.toList;
+import static java.util.stream.Collectors.toMap;
+import static ru.practicum.shareit.benchmarks.BenchmarkData.HOT_ITEM_ID;
+import static ru.practicum.shareit.benchmarks.BenchmarkData.OWNER_ID;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InMemoryServiceBenchmark {
+    private ItemServiceImpl itemService;
+    private ItemRequestServiceImpl itemRequestService;
+
+    @State(Scope.Benchmark)
+    public static class OwnerPage {
+        @Param({"20", "1000"})
+        public int size;
+    }
+
+    @State(Scope.Benchmark)
+    public static class RequestPage {
+        @Param({"20", "200"})
+        public int size;
+    }
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        LocalDateTime now = LocalDateTime.now();
+        BenchmarkData data = new BenchmarkData(now);
+
+        Map<Long, Item> items = data.getItems().stream().collect(toMap(Item::getId, Function.identity()));
+
+        Map<Long, List<Comment>> comments = data.getComments().stream()
+                .collect(groupingBy(comment -> comment.getItem().getId()));
+
+        Map<Long, Booking> lastBookings = data.getBookings().stream()
+                .filter(booking -> booking.getStart().isBefore(now))
+                .collect(toMap(booking -> booking.getItem().getId(), Function.identity(),
+                        latest(Comparator.comparing(Booking::getEnd))));
+
+        Map<Long, Booking> nextBookings = data.getBookings().stream()
+                .filter(booking -> booking.getStatus() == BookingStatus.APPROVED && booking.getStart().isAfter(now))
+                .collect(toMap(booking -> booking.getItem().getId(), Function.identity(),
+                        latest(Comparator.comparing(Booking::getStart).reversed())));
+
+        Map<Long, List<ItemRequestGetResponseDto.RequestedItem>> requestedItems = data.getItems().stream()
+                .map(item -> new ItemRequestGetResponseDto.RequestedItem(item.getId(), item.getName(),
+                        item.getDescription(), item.getAvailable(), item.getItemRequest().getId()))
+                .collect(groupingBy(ItemRequestGetResponseDto.RequestedItem::getRequestId));
+
+        ItemRepository itemRepository = InMemoryRepositories.fake(ItemRepository.class)
+                .answer("findById", args -> Optional.ofNullable(items.get((Long) args[0])))
+                .answer("findAllByOwnerId", args -> page(data.getItems(), (Pageable) args[1]).stream()
+                        .map(ItemMapper::toDto)
+                        .collect(toList()))
+                .answer("findAllByItemRequestIdIn", args -> byIds(requestedItems, args[0]))
+                .build();
+
+        BookingRepository bookingRepository = InMemoryRepositories.fake(BookingRepository.class)
+                .answer("findFirstByItemIdAndStartBeforeOrderByEndDesc",
+                        args -> Optional.ofNullable(lastBookings.get((Long) args[0])))
+                .answer("findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc",
+                        args -> Optional.ofNullable(nextBookings.get((Long) args[0])))
+                .answer("findNextStartByItemId", args -> Optional.ofNullable(nextBookings.get((Long) args[0]))
+                        .map(Booking::getStart))
+                .answer("findLastBookingsByItemIdIn", args -> byId(lastBookings, args[0]))
+                .answer("findNextBookingsByItemIdIn", args -> byId(nextBookings, args[0]))
+                .build();
+
+        CommentRepository commentRepository = InMemoryRepositories.fake(CommentRepository.class)
+                .answer("findAllByItemId", args -> comments.getOrDefault((Long) args[0], List.of()))
+                .answer("findAllByItemIdIn", args -> byIds(comments, args[0]))
+                .build();
+
+        ItemRequestRepository itemRequestRepository = InMemoryRepositories.fake(ItemRequestRepository.class)
+                .answer("findAllByRequesterIdNotOrderByCreatedDesc", args -> requests(data.getRequests(),
+                        (Long) args[0], false, (Pageable) args[1]))
+                .answer("findAllByRequesterIdOrderByCreatedDesc", args -> requests(data.getRequests(),
+                        (Long) args[0], true, (Pageable) args[1]))
+                .build();
+
+        UserRepository userRepository = InMemoryRepositories.fake(UserRepository.class)
+                .answer("existsById", args -> true)
+                .build();
+
+        itemService = new ItemServiceImpl(itemRepository, userRepository, commentRepository, bookingRepository,
+                itemRequestRepository, new ItemViewCache(new NoOpCacheManager()));
+        itemRequestService = new ItemRequestServiceImpl(itemRequestRepository, userRepository, itemRepository);
+    }
+
+    @Benchmark
+    public List<ItemDto> getItemsByUserId(OwnerPage page) {
+        return itemService.getItemsByUserId(OWNER_ID, 0, page.size);
+    }
+
+    @Benchmark
+    public ItemDto getHotItemForOwner() {
+        return itemService.getItem(HOT_ITEM_ID, OWNER_ID);
+    }
+
+    @Benchmark
+    public List<ItemRequestGetResponseDto> getAllItemRequests(RequestPage page) {
+        return itemRequestService.getAll(OWNER_ID, 0, page.size);
+    }
+
+    private static <T> List<T> page(List<T> values, Pageable pageable) {
+        return values.stream()
+                .skip(pageable.getOffset())
+                .limit(pageable.getPageSize())
+                .collect(toList());
+    }
+
+    private static List<ItemRequestGetResponseDto> requests(List<ItemRequest> requests, Long userId,
+                                                           boolean own, Pageable pageable) {
+        return page(requests.stream()
+                .filter(request -> request.getRequester().getId().equals(userId) == own)
+                .map(request -> new ItemRequestGetResponseDto(request.getId(), request.getDescription(),
+                        request.getCreated()))
+                .collect(toList()), pageable);
+    }
+
+    private static <T> List<T> byId(Map<Long, T> values, Object ids) {
+        return ((List<?>) ids).stream()
+                .map(values::get)
+                .filter(Objects::nonNull)
+                .collect(toList());
+    }
+
+    private static <T> List<T> byIds(Map<Long, List<T>> values, Object ids) {
+        return ((List<?>) ids).stream()
+                .flatMap(id -> values.getOrDefault(id, List.of()).stream())
+                .collect(toList());
+    }
+
+    private static <T> BinaryOperator<T> latest(Comparator<T> comparator) {
+        return (first, second) -> comparator.compare(first, second) >= 0 ? first : second;
+    }
+}
@@ -0,0 +1,41 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.request.dto.ItemRequestGetResponseDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.benchmarks.BenchmarkData.OWNER_ID;
+import static ru.practicum.shareit.benchmarks.BenchmarkData.REQUESTER_ID;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemRequestServiceBenchmark {
+
+    @Param({"20", "200"})
+    public int size;
+
+    @Benchmark
+    public List<ItemRequestGetResponseDto> getAll(ShareItContext context) {
+        return context.itemRequestService.getAll(OWNER_ID, 0, size);
+    }
+
+    @Benchmark
+    public List<ItemRequestGetResponseDto> getAllByRequesterId(ShareItContext context) {
+        return context.itemRequestService.getAllByRequesterId(REQUESTER_ID, 0, size);
+    }
+}
@@ -0,0 +1,43 @@
+package ru.practicum.shareit.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static ru.practicum.shareit.benchmarks.BenchmarkData.HOT_ITEM_ID;
+import static ru.practicum.shareit.benchmarks.BenchmarkData.OWNER_ID;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ItemServiceBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class OwnerPage {
+        @Param({"20", "1000"})
+        public int size;
+    }
+
+    @Benchmark
+    public List<ItemDto> getItemsByUserId(ShareItContext context, OwnerPage page) {
+        return context.itemService.getItemsByUserId(OWNER_ID, 0, page.size);
+    }
+
+    @Benchmark
+    public ItemDto getHotItemForOwner(ShareItContext context) {
+        return context.itemService.getItem(HOT_ITEM_ID, OWNER_ID);
+    }
+}
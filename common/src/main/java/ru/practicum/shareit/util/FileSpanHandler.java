@@ -0,0 +1,82 @@
+package ru.practicum.shareit.util;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shareit.tracing.file")
+public class FileSpanHandler extends SpanHandler implements DisposableBean {
+    private final BufferedWriter writer;
+    private final ScheduledExecutorService flusher;
+
+    public FileSpanHandler(@Value("${shareit.tracing.file}") Path file) throws IOException {
+        Path directory = file.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+
+        writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8, StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND);
+        flusher = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "span-file-flusher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        flusher.scheduleWithFixedDelay(this::flush, 1, 1, TimeUnit.SECONDS);
+
+        log.info("Спаны трассировки записываются в файл {}", file.toAbsolutePath());
+    }
+
+    @Override
+    public boolean end(TraceContext context, MutableSpan span, Cause cause) {
+        if (cause == Cause.ABANDONED) {
+            return true;
+        }
+
+        try {
+            synchronized (writer) {
+                writer.write(span.toString());
+                writer.newLine();
+            }
+        } catch (IOException e) {
+            log.warn("Не удалось записать спан {}: {}", span.id(), e.getMessage());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void destroy() throws IOException {
+        flusher.shutdown();
+        synchronized (writer) {
+            writer.close();
+        }
+    }
+
+    private void flush() {
+        try {
+            synchronized (writer) {
+                writer.flush();
+            }
+        } catch (IOException e) {
+            log.warn("Не удалось сбросить спаны в файл: {}", e.getMessage());
+        }
+    }
+}
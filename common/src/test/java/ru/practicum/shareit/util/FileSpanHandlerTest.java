@@ -0,0 +1,59 @@
+package ru.practicum.shareit.util;
+
+import brave.handler.MutableSpan;
+import brave.handler.SpanHandler;
+import brave.propagation.TraceContext;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.equalTo;
+
+public class FileSpanHandlerTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void endTest_WritesFinishedSpansOnly() throws Exception {
+        Path file = directory.resolve("spans").resolve("gateway.log");
+        FileSpanHandler handler = new FileSpanHandler(file);
+        TraceContext context = TraceContext.newBuilder().traceId(1L).spanId(2L).build();
+
+        assertThat(handler.end(context, getSpan(context, "GET /items"), SpanHandler.Cause.FINISHED), equalTo(true));
+        assertThat(handler.end(context, getSpan(context, "GET /users"), SpanHandler.Cause.ABANDONED),
+                equalTo(true));
+        handler.destroy();
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertThat(lines.size(), equalTo(1));
+        assertThat(lines.get(0), containsString("\"name\":\"GET /items\""));
+    }
+
+    @Test
+    void constructorTest_AppendsToExistingFile() throws Exception {
+        Path file = directory.resolve("server.log");
+        Files.writeString(file, "{}\n");
+        FileSpanHandler handler = new FileSpanHandler(file);
+        TraceContext context = TraceContext.newBuilder().traceId(1L).spanId(3L).build();
+
+        handler.end(context, getSpan(context, "POST /bookings"), SpanHandler.Cause.FINISHED);
+        handler.destroy();
+
+        assertThat(Files.readAllLines(file, StandardCharsets.UTF_8).size(), equalTo(2));
+    }
+
+    private MutableSpan getSpan(TraceContext context, String name) {
+        MutableSpan span = new MutableSpan(context, null);
+        span.name(name);
+        span.startTimestamp(1L);
+        span.finishTimestamp(2L);
+        return span;
+    }
+}
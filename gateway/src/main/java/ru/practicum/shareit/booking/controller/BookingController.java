@@ -2,20 +2,24 @@ package ru.practicum.shareit.booking.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.ServletServerHttpResponse;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.RequestBookingState;
 import ru.practicum.shareit.client.BookingClient;
-import ru.practicum.shareit.exception.BadRequestException;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
 import javax.validation.constraints.Min;
+import java.io.IOException;
 
 import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
 
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping(path = "/bookings")
 @RequiredArgsConstructor
 @Slf4j
@@ -23,6 +27,14 @@ import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
 public class BookingController {
     private final BookingClient bookingClient;
 
+    @GetMapping("/export")
+    public void exportAll(@RequestHeader(SHARER_USER_ID) Long userId,
+                          HttpServletResponse response) throws IOException {
+
+        log.info("Запрос на выгрузку истории бронирований пользователя ID: {}", userId);
+        bookingClient.exportAll(userId, new ServletServerHttpResponse(response));
+    }
+
     @GetMapping("/{bookingId}")
     public ResponseEntity<Object> getById(@PathVariable Long bookingId,
                                           @RequestHeader(SHARER_USER_ID) Long userId) {
@@ -35,24 +47,26 @@ public class BookingController {
     public ResponseEntity<Object> getAllByState(@RequestParam(defaultValue = "ALL") String state,
                                                   @RequestParam(defaultValue = "0") @Min(0) int from,
                                                   @RequestParam(defaultValue = "20") @Min(1) int size,
+                                                  @RequestParam(required = false) String after,
                                                   @RequestHeader(SHARER_USER_ID) Long userId) {
 
-        RequestBookingState requestBookingState = getStateParam(state);
+        RequestBookingState requestBookingState = RequestBookingState.from(state);
 
         log.info("Запрос списка бронирований от пользователя ID: {}", userId);
-        return bookingClient.getAllByState(requestBookingState, userId, from, size);
+        return bookingClient.getAllByState(requestBookingState, userId, from, size, after);
     }
 
     @GetMapping("/owner")
     public ResponseEntity<Object> getAllByStateForOwner(@RequestParam(defaultValue = "ALL") String state,
                                                           @RequestParam(defaultValue = "0") @Min(0) int from,
                                                           @RequestParam(defaultValue = "20") @Min(1) int size,
+                                                          @RequestParam(required = false) String after,
                                                           @RequestHeader(SHARER_USER_ID) Long userId) {
 
-        RequestBookingState requestBookingState = getStateParam(state);
+        RequestBookingState requestBookingState = RequestBookingState.from(state);
 
         log.info("Запрос списка бронирований от владельца ID: {}", userId);
-        return bookingClient.getAllByStateForOwner(requestBookingState, userId, from, size);
+        return bookingClient.getAllByStateForOwner(requestBookingState, userId, from, size, after);
     }
 
     @PostMapping
@@ -71,15 +85,4 @@ public class BookingController {
         log.info("Запрос на подтверждение брони от пользователя ID: {}", userId);
         return bookingClient.approve(bookingId, approved, userId);
     }
-
-    private RequestBookingState getStateParam(String state) {
-
-        RequestBookingState requestBookingState;
-
-        try {
-            return  requestBookingState = RequestBookingState.valueOf(state.toUpperCase());
-        } catch (IllegalArgumentException e) {
-            throw new BadRequestException("Unknown state: " + state);
-        }
-    }
 }
@@ -0,0 +1,88 @@
+package ru.practicum.shareit.booking.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.RequestBookingState;
+import ru.practicum.shareit.client.ReactiveBookingClient;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+
+import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/bookings")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveBookingController {
+    private final ReactiveBookingClient bookingClient;
+
+    @GetMapping("/export")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportAll(@RequestHeader(SHARER_USER_ID) Long userId) {
+
+        log.info("Запрос на выгрузку истории бронирований пользователя ID: {}", userId);
+        return bookingClient.exportAll(userId);
+    }
+
+    @GetMapping("/{bookingId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(@PathVariable Long bookingId,
+                                                          @RequestHeader(SHARER_USER_ID) Long userId) {
+
+        log.info("Запрос бронирования с ID: {}", bookingId);
+        return bookingClient.getById(bookingId, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByState(@RequestParam(defaultValue = "ALL") String state,
+                                                                @RequestParam(defaultValue = "0") @Min(0) int from,
+                                                                @RequestParam(defaultValue = "20") @Min(1) int size,
+                                                                @RequestParam(required = false) String after,
+                                                                @RequestHeader(SHARER_USER_ID) Long userId) {
+
+        RequestBookingState requestBookingState = RequestBookingState.from(state);
+
+        log.info("Запрос списка бронирований от пользователя ID: {}", userId);
+        return bookingClient.getAllByState(requestBookingState, userId, from, size, after);
+    }
+
+    @GetMapping("/owner")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByStateForOwner(
+            @RequestParam(defaultValue = "ALL") String state,
+            @RequestParam(defaultValue = "0") @Min(0) int from,
+            @RequestParam(defaultValue = "20") @Min(1) int size,
+            @RequestParam(required = false) String after,
+            @RequestHeader(SHARER_USER_ID) Long userId) {
+
+        RequestBookingState requestBookingState = RequestBookingState.from(state);
+
+        log.info("Запрос списка бронирований от владельца ID: {}", userId);
+        return bookingClient.getAllByStateForOwner(requestBookingState, userId, from, size, after);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addBooking(@RequestHeader(SHARER_USER_ID) Long userId,
+                                                             @Valid @RequestBody BookingRequestDto bookingRequestDto) {
+
+        log.info("Запрос на создание брони от пользователя ID: {}", userId);
+        return bookingClient.addBooking(bookingRequestDto, userId);
+    }
+
+    @PatchMapping("/{bookingId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> approve(@PathVariable Long bookingId,
+                                                          @RequestParam boolean approved,
+                                                          @RequestHeader(SHARER_USER_ID) Long userId) {
+
+        log.info("Запрос на подтверждение брони от пользователя ID: {}", userId);
+        return bookingClient.approve(bookingId, approved, userId);
+    }
+}
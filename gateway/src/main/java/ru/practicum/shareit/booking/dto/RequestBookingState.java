@@ -1,10 +1,20 @@
 package ru.practicum.shareit.booking.dto;
 
+import ru.practicum.shareit.exception.BadRequestException;
+
 public enum RequestBookingState {
     ALL,
     CURRENT,
     PAST,
     FUTURE,
     WAITING,
-    REJECTED
+    REJECTED;
+
+    public static RequestBookingState from(String state) {
+        try {
+            return RequestBookingState.valueOf(state.toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unknown state: " + state);
+        }
+    }
 }
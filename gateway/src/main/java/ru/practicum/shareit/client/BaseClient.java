@@ -1,20 +1,41 @@
 package ru.practicum.shareit.client;
 
+import org.springframework.cloud.sleuth.Span;
 import org.springframework.http.*;
+import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.lang.Nullable;
+import org.springframework.util.StreamUtils;
 import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Set;
 
 import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
 
 public class BaseClient {
+    private static final Set<String> NOT_FORWARDED_HEADERS = Set.of(
+            "connection", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+            "transfer-encoding", "upgrade", "content-length", "date"
+    );
+
     protected final RestTemplate rest;
 
-    public BaseClient(RestTemplate rest) {
+    protected final RestTemplate streamingRest;
+
+    private final ServerCallTracing tracing;
+
+    public BaseClient(RestTemplate rest, ServerCallTracing tracing) {
+        this(rest, rest, tracing);
+    }
+
+    public BaseClient(RestTemplate rest, RestTemplate streamingRest, ServerCallTracing tracing) {
         this.rest = rest;
+        this.streamingRest = streamingRest;
+        this.tracing = tracing;
     }
 
     protected ResponseEntity<Object> get(String path) {
@@ -66,23 +87,81 @@ public class BaseClient {
     }
 
     private <T> ResponseEntity<Object> makeAndSendRequest(HttpMethod method, String path, Long userId, @Nullable Map<String, Object> parameters, @Nullable T body) {
-        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId));
+        Span span = tracing.startSpan(method, path);
+        HttpEntity<T> requestEntity = new HttpEntity<>(body, defaultHeaders(userId, span));
 
-        ResponseEntity<Object> shareitServerResponse;
+        ResponseEntity<byte[]> shareitServerResponse;
         try {
             if (parameters != null) {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class, parameters);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class, parameters);
             } else {
-                shareitServerResponse = rest.exchange(path, method, requestEntity, Object.class);
+                shareitServerResponse = rest.exchange(path, method, requestEntity, byte[].class);
             }
         } catch (HttpStatusCodeException e) {
-            return ResponseEntity.status(e.getStatusCode()).body(e.getResponseBodyAsByteArray());
+            tracing.end(span, e.getStatusCode());
+            return prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        } catch (RuntimeException e) {
+            tracing.end(span, e);
+            throw e;
+        }
+        tracing.end(span, shareitServerResponse.getStatusCode());
+        return prepareGatewayResponse(shareitServerResponse.getStatusCode(), shareitServerResponse.getHeaders(),
+                shareitServerResponse.getBody());
+    }
+
+    protected ResponseEntity<Object> postStream(String path, Long userId, MediaType contentType,
+                                                StreamingHttpOutputMessage.Body body) {
+        Span span = tracing.startSpan(HttpMethod.POST, path);
+        ResponseEntity<Object> response;
+        try {
+            response = streamingRest.execute(path, HttpMethod.POST, request -> {
+                request.getHeaders().addAll(defaultHeaders(userId, span));
+                request.getHeaders().setContentType(contentType);
+                if (request instanceof StreamingHttpOutputMessage) {
+                    ((StreamingHttpOutputMessage) request).setBody(body);
+                } else {
+                    body.writeTo(request.getBody());
+                }
+            }, serverResponse -> prepareGatewayResponse(serverResponse.getStatusCode(), serverResponse.getHeaders(),
+                    StreamUtils.copyToByteArray(serverResponse.getBody())));
+        } catch (HttpStatusCodeException e) {
+            tracing.end(span, e.getStatusCode());
+            return prepareGatewayResponse(e.getStatusCode(), e.getResponseHeaders(), e.getResponseBodyAsByteArray());
+        } catch (RuntimeException e) {
+            tracing.end(span, e);
+            throw e;
         }
-        return prepareGatewayResponse(shareitServerResponse);
+        tracing.end(span, response.getStatusCode());
+        return response;
     }
 
-    private HttpHeaders defaultHeaders(Long userId) {
+    protected void getStream(String path, Long userId, ServerHttpResponse target) throws IOException {
+        Span span = tracing.startSpan(HttpMethod.GET, path);
+        try {
+            HttpStatus status = rest.execute(path, HttpMethod.GET,
+                    request -> request.getHeaders().addAll(defaultHeaders(userId, span)),
+                    response -> {
+                        target.setStatusCode(response.getStatusCode());
+                        target.getHeaders().addAll(forwardedHeaders(response.getHeaders()));
+                        StreamUtils.copy(response.getBody(), target.getBody());
+                        return response.getStatusCode();
+                    });
+            tracing.end(span, status);
+        } catch (HttpStatusCodeException e) {
+            tracing.end(span, e.getStatusCode());
+            target.setStatusCode(e.getStatusCode());
+            target.getHeaders().addAll(forwardedHeaders(e.getResponseHeaders()));
+            target.getBody().write(e.getResponseBodyAsByteArray());
+        } catch (RuntimeException e) {
+            tracing.end(span, e);
+            throw e;
+        }
+        target.flush();
+    }
+
+    private HttpHeaders defaultHeaders(Long userId, Span span) {
         HttpHeaders headers = new HttpHeaders();
+        tracing.inject(span, headers);
         headers.setContentType(MediaType.APPLICATION_JSON);
         headers.setAccept(List.of(MediaType.APPLICATION_JSON));
         if (userId != null) {
@@ -91,20 +170,29 @@ public class BaseClient {
         return headers;
     }
 
-    private static ResponseEntity<Object> prepareGatewayResponse(ResponseEntity<Object> response) {
-        if (response.getStatusCode().is2xxSuccessful()) {
-            return response;
-        }
-
-        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(response.getStatusCode());
+    private static ResponseEntity<Object> prepareGatewayResponse(HttpStatus status, @Nullable HttpHeaders headers,
+                                                                 @Nullable byte[] body) {
+        ResponseEntity.BodyBuilder responseBuilder = ResponseEntity.status(status).headers(forwardedHeaders(headers));
 
-        if (response.hasBody()) {
-            return responseBuilder.body(response.getBody());
+        if (body != null && body.length > 0) {
+            return responseBuilder.body(body);
         }
 
         return responseBuilder.build();
     }
 
+    static HttpHeaders forwardedHeaders(@Nullable HttpHeaders headers) {
+        HttpHeaders forwarded = new HttpHeaders();
+        if (headers != null) {
+            headers.forEach((name, values) -> {
+                if (!NOT_FORWARDED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                    forwarded.addAll(name, values);
+                }
+            });
+        }
+        return forwarded;
+    }
+
     protected ResponseEntity<Object> delete(String path) {
         return delete(path, null, null);
     }
@@ -1,34 +1,54 @@
 package ru.practicum.shareit.client;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.server.ServerHttpResponse;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.RequestBookingState;
 
+import java.io.IOException;
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class BookingClient extends BaseClient {
     private static final String API_PREFIX = "/bookings";
 
-    public BookingClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public BookingClient(@Value("${shareit-server.url}") String serverUrl, ClientHttpRequestFactory requestFactory,
+                         RestTemplateBuilder builder, ServerCallTracing tracing) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                tracing
         );
     }
 
+    public void exportAll(Long userId, ServerHttpResponse target) throws IOException {
+        getStream("/export", userId, target);
+    }
+
     public ResponseEntity<Object> getById(Long bookingId, Long userId) {
         return get("/" + bookingId, userId);
     }
 
-    public ResponseEntity<Object> getAllByState(RequestBookingState state, Long userId, Integer from, Integer size) {
+    public ResponseEntity<Object> getAllByState(RequestBookingState state, Long userId, Integer from, Integer size,
+                                                String after) {
+        if (after != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "after", after,
+                    "size", size
+            );
+
+            return get("?state={state}&after={after}&size={size}", userId, parameters);
+        }
 
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
@@ -39,7 +59,17 @@ public class BookingClient extends BaseClient {
         return get("?state={state}&from={from}&size={size}", userId, parameters);
     }
 
-    public ResponseEntity<Object> getAllByStateForOwner(RequestBookingState state, Long userId, Integer from, Integer size) {
+    public ResponseEntity<Object> getAllByStateForOwner(RequestBookingState state, Long userId, Integer from, Integer size,
+                                                        String after) {
+        if (after != null) {
+            Map<String, Object> parameters = Map.of(
+                    "state", state.name(),
+                    "after", after,
+                    "size", size
+            );
+
+            return get("/owner?state={state}&after={after}&size={size}", userId, parameters);
+        }
 
         Map<String, Object> parameters = Map.of(
                 "state", state.name(),
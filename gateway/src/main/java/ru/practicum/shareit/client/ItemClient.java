@@ -1,9 +1,13 @@
 package ru.practicum.shareit.client;
 
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.StreamingHttpOutputMessage;
+import org.springframework.http.client.ClientHttpRequestFactory;
 import org.springframework.stereotype.Service;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 import ru.practicum.shareit.item.comment.CommentDto;
@@ -12,6 +16,7 @@ import ru.practicum.shareit.item.dto.ItemDto;
 import java.util.Map;
 
 @Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class ItemClient extends BaseClient {
     private static final String API_PREFIX = "/items";
 
@@ -19,12 +24,20 @@ public class ItemClient extends BaseClient {
         delete("/" + itemId);
     }
 
-    public ItemClient(@Value("${shareit-server.url}") String serverUrl, RestTemplateBuilder builder) {
+    public ItemClient(@Value("${shareit-server.url}") String serverUrl, ClientHttpRequestFactory requestFactory,
+                      @Qualifier("shareitServerStreamingRequestFactory")
+                      ClientHttpRequestFactory streamingRequestFactory,
+                      RestTemplateBuilder builder, ServerCallTracing tracing) {
         super(
                 builder
                         .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
-                        .requestFactory(HttpComponentsClientHttpRequestFactory::new)
-                        .build()
+                        .requestFactory(() -> requestFactory)
+                        .build(),
+                builder
+                        .uriTemplateHandler(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                        .requestFactory(() -> streamingRequestFactory)
+                        .build(),
+                tracing
         );
     }
 
@@ -53,6 +66,10 @@ public class ItemClient extends BaseClient {
         return post("", userId, requestDto);
     }
 
+    public ResponseEntity<Object> importItems(Long userId, StreamingHttpOutputMessage.Body rows) {
+        return postStream("/import", userId, MediaType.APPLICATION_NDJSON, rows);
+    }
+
     public ResponseEntity<Object> createComment(CommentDto requestDto, Long userId, Long itemId) {
         return post("/" + itemId + "/comment", userId, requestDto);
     }
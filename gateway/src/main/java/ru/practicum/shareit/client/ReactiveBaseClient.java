@@ -0,0 +1,117 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.TraceContext;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.lang.Nullable;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
+
+public class ReactiveBaseClient {
+    protected final WebClient webClient;
+
+    private final ServerCallTracing tracing;
+
+    public ReactiveBaseClient(WebClient webClient, ServerCallTracing tracing) {
+        this.webClient = webClient;
+        this.tracing = tracing;
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> get(String path) {
+        return get(path, null, null);
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> get(String path, Long userId) {
+        return get(path, userId, null);
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> get(String path, Long userId,
+                                                         @Nullable Map<String, Object> parameters) {
+        return makeAndSendRequest(HttpMethod.GET, path, userId, parameters, null);
+    }
+
+    protected <T> Mono<ResponseEntity<Flux<DataBuffer>>> post(String path, Long userId, T body) {
+        return makeAndSendRequest(HttpMethod.POST, path, userId, null, body);
+    }
+
+    protected Mono<ResponseEntity<Flux<DataBuffer>>> postStream(String path, Long userId, MediaType contentType,
+                                                                Flux<String> rows) {
+        return traced(HttpMethod.POST, path, span -> webClient.post()
+                .uri(path)
+                .headers(headers -> defaultHeaders(headers, userId, span))
+                .contentType(contentType)
+                .body(rows.map(row -> row + "\n"), String.class)
+                .retrieve()
+                .onStatus(status -> true, response -> Mono.empty())
+                .toEntityFlux(DataBuffer.class))
+                .map(ReactiveBaseClient::prepareGatewayResponse);
+    }
+
+    protected <T> Mono<ResponseEntity<Flux<DataBuffer>>> patch(String path, Long userId,
+                                                               @Nullable Map<String, Object> parameters, T body) {
+        return makeAndSendRequest(HttpMethod.PATCH, path, userId, parameters, body);
+    }
+
+    protected Mono<Void> delete(String path) {
+        return traced(HttpMethod.DELETE, path, span -> webClient.delete()
+                .uri(path)
+                .headers(headers -> tracing.inject(span, headers))
+                .retrieve()
+                .onStatus(status -> true, response -> Mono.empty())
+                .toBodilessEntity())
+                .then();
+    }
+
+    private <T> Mono<ResponseEntity<Flux<DataBuffer>>> makeAndSendRequest(HttpMethod method, String path, Long userId,
+                                                                          @Nullable Map<String, Object> parameters,
+                                                                          @Nullable T body) {
+        return traced(method, path, span -> {
+            WebClient.RequestBodySpec request = webClient.method(method)
+                    .uri(path, parameters != null ? parameters : Map.of())
+                    .headers(headers -> defaultHeaders(headers, userId, span));
+
+            WebClient.RequestHeadersSpec<?> requestWithBody = body != null ? request.bodyValue(body) : request;
+
+            return requestWithBody.retrieve()
+                    .onStatus(status -> true, response -> Mono.empty())
+                    .toEntityFlux(DataBuffer.class);
+        }).map(ReactiveBaseClient::prepareGatewayResponse);
+    }
+
+    private <T> Mono<ResponseEntity<T>> traced(HttpMethod method, String path,
+                                               Function<Span, Mono<ResponseEntity<T>>> call) {
+        return Mono.deferContextual(context -> {
+            Span span = tracing.startSpan(method, path, context.getOrDefault(TraceContext.class, null));
+            return call.apply(span)
+                    .doOnNext(response -> tracing.end(span, response.getStatusCode()))
+                    .doOnError(error -> tracing.end(span, error))
+                    .doOnCancel(span::end);
+        });
+    }
+
+    private void defaultHeaders(HttpHeaders headers, Long userId, Span span) {
+        tracing.inject(span, headers);
+        headers.setContentType(MediaType.APPLICATION_JSON);
+        headers.setAccept(List.of(MediaType.APPLICATION_JSON));
+        if (userId != null) {
+            headers.set(SHARER_USER_ID, String.valueOf(userId));
+        }
+    }
+
+    private static ResponseEntity<Flux<DataBuffer>> prepareGatewayResponse(ResponseEntity<Flux<DataBuffer>> response) {
+        return ResponseEntity.status(response.getStatusCode())
+                .headers(BaseClient.forwardedHeaders(response.getHeaders()))
+                .body(response.getBody());
+    }
+}
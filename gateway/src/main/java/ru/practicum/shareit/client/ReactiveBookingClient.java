@@ -0,0 +1,83 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.RequestBookingState;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveBookingClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/bookings";
+
+    public ReactiveBookingClient(@Value("${shareit-server.url}") String serverUrl, ClientHttpConnector connector,
+                                 WebClient.Builder builder, ServerCallTracing tracing) {
+        super(
+                builder
+                        .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                        .clientConnector(connector)
+                        .build(),
+                tracing
+        );
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> exportAll(Long userId) {
+        return get("/export", userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(Long bookingId, Long userId) {
+        return get("/" + bookingId, userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByState(RequestBookingState state, Long userId,
+                                                                Integer from, Integer size, String after) {
+        return get(pagePath("", after), userId, pageParameters(state, from, size, after));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByStateForOwner(RequestBookingState state, Long userId,
+                                                                        Integer from, Integer size, String after) {
+        return get(pagePath("/owner", after), userId, pageParameters(state, from, size, after));
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addBooking(BookingRequestDto requestDto, Long userId) {
+        return post("", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> approve(Long bookingId, boolean approved, Long userId) {
+        Map<String, Object> parameters = Map.of("approved", approved);
+        return patch("/" + bookingId + "?approved={approved}", userId, parameters, null);
+    }
+
+    private static String pagePath(String path, String after) {
+        if (after != null) {
+            return path + "?state={state}&after={after}&size={size}";
+        }
+        return path + "?state={state}&from={from}&size={size}";
+    }
+
+    private static Map<String, Object> pageParameters(RequestBookingState state, Integer from, Integer size,
+                                                      String after) {
+        if (after != null) {
+            return Map.of(
+                    "state", state.name(),
+                    "after", after,
+                    "size", size
+            );
+        }
+        return Map.of(
+                "state", state.name(),
+                "from", from,
+                "size", size
+        );
+    }
+}
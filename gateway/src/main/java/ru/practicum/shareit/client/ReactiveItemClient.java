@@ -0,0 +1,75 @@
+package ru.practicum.shareit.client;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.item.comment.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.Map;
+
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveItemClient extends ReactiveBaseClient {
+    private static final String API_PREFIX = "/items";
+
+    public ReactiveItemClient(@Value("${shareit-server.url}") String serverUrl, ClientHttpConnector connector,
+                              WebClient.Builder builder, ServerCallTracing tracing) {
+        super(
+                builder
+                        .uriBuilderFactory(new DefaultUriBuilderFactory(serverUrl + API_PREFIX))
+                        .clientConnector(connector)
+                        .build(),
+                tracing
+        );
+    }
+
+    public Mono<Void> delete(Long itemId) {
+        return delete("/" + itemId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItem(Long itemId, Long userId) {
+        return get("/" + itemId, userId);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getItemsByUserId(Long userId, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "from", from,
+                "size", size
+        );
+        return get("?from={from}&size={size}", userId, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> searchItemsForRent(String text, Integer from, Integer size) {
+        Map<String, Object> parameters = Map.of(
+                "text", text,
+                "from", from,
+                "size", size
+        );
+        return get("/search?text={text}&from={from}&size={size}", null, parameters);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addItem(ItemDto requestDto, Long userId) {
+        return post("", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> importItems(Long userId, Flux<String> rows) {
+        return postStream("/import", userId, MediaType.APPLICATION_NDJSON, rows);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> createComment(CommentDto requestDto, Long userId, Long itemId) {
+        return post("/" + itemId + "/comment", userId, requestDto);
+    }
+
+    public Mono<ResponseEntity<Flux<DataBuffer>>> update(Long itemId, Long userId, ItemDto itemDto) {
+        return patch("/" + itemId, userId, null, itemDto);
+    }
+}
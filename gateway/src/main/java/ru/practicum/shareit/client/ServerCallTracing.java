@@ -0,0 +1,57 @@
+package ru.practicum.shareit.client;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.cloud.sleuth.TraceContext;
+import org.springframework.cloud.sleuth.Tracer;
+import org.springframework.cloud.sleuth.propagation.Propagator;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ServerCallTracing {
+    private static final String REMOTE_SERVICE_NAME = "shareit-server";
+
+    private final Tracer tracer;
+    private final Propagator propagator;
+
+    public Span startSpan(HttpMethod method, String path) {
+        Span current = tracer.currentSpan();
+        return startSpan(method, path, current != null ? current.context() : null);
+    }
+
+    public Span startSpan(HttpMethod method, String path, @Nullable TraceContext parent) {
+        Span.Builder span = tracer.spanBuilder()
+                .name(method.name())
+                .kind(Span.Kind.CLIENT)
+                .remoteServiceName(REMOTE_SERVICE_NAME)
+                .tag("http.method", method.name())
+                .tag("http.path", path);
+
+        if (parent != null) {
+            span.setParent(parent);
+        } else {
+            span.setNoParent();
+        }
+
+        return span.start();
+    }
+
+    public void inject(Span span, HttpHeaders headers) {
+        propagator.inject(span.context(), headers, HttpHeaders::set);
+    }
+
+    public void end(Span span, HttpStatus status) {
+        span.tag("http.status_code", String.valueOf(status.value()));
+        span.end();
+    }
+
+    public void end(Span span, Throwable error) {
+        span.error(error);
+        span.end();
+    }
+}
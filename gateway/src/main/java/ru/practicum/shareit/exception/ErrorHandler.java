@@ -6,6 +6,10 @@ import org.springframework.web.bind.MissingRequestHeaderException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+
+import javax.validation.ConstraintViolationException;
 
 @RestControllerAdvice
 @Slf4j
@@ -18,7 +22,8 @@ public class ErrorHandler {
         return new ErrorResponse(e.getMessage());
     }
 
-    @ExceptionHandler({BadRequestException.class, MissingRequestHeaderException.class})
+    @ExceptionHandler({BadRequestException.class, MissingRequestHeaderException.class,
+            ConstraintViolationException.class})
     @ResponseStatus(HttpStatus.BAD_REQUEST)
     public ErrorResponse handleBadRequestException(final RuntimeException e) {
         log.debug("Получен статус 400 Bad request {}", e.getMessage());
@@ -31,4 +36,11 @@ public class ErrorHandler {
         log.debug("Получен статус 409 Conflict {}", e.getMessage());
         return new ErrorResponse(e.getMessage());
     }
-}
\ No newline at end of file
+
+    @ExceptionHandler({ResourceAccessException.class, WebClientRequestException.class})
+    @ResponseStatus(HttpStatus.SERVICE_UNAVAILABLE)
+    public ErrorResponse handleServerUnavailableException(final RuntimeException e) {
+        log.warn("Получен статус 503 Service unavailable {}", e.getMessage());
+        return new ErrorResponse("Сервер недоступен");
+    }
+}
@@ -0,0 +1,87 @@
+package ru.practicum.shareit.item.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Component
+@RequiredArgsConstructor
+public class ItemImportValidator {
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    public void writeRows(InputStream items, MediaType contentType, OutputStream rows) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(rows, StandardCharsets.UTF_8));
+
+        if (MediaType.APPLICATION_NDJSON.isCompatibleWith(contentType)) {
+            BufferedReader reader = new BufferedReader(new InputStreamReader(items, StandardCharsets.UTF_8));
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isBlank()) {
+                    writeRow(writer, toRow(line));
+                }
+            }
+        } else {
+            try (MappingIterator<JsonNode> nodes = objectMapper.readerFor(JsonNode.class).readValues(items)) {
+                while (nodes.hasNextValue()) {
+                    writeRow(writer, toRow(nodes.nextValue()));
+                }
+            } catch (JsonProcessingException e) {
+                writeRow(writer, errorRow("Некорректный JSON, остальные строки не обработаны"));
+            }
+        }
+
+        writer.flush();
+    }
+
+    public String toRow(ItemDto itemDto) throws JsonProcessingException {
+        Set<ConstraintViolation<ItemDto>> violations = validator.validate(itemDto);
+
+        if (!violations.isEmpty()) {
+            return errorRow(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        return objectMapper.writeValueAsString(itemDto);
+    }
+
+    private String toRow(String line) throws JsonProcessingException {
+        try {
+            return toRow(objectMapper.readTree(line));
+        } catch (JsonProcessingException e) {
+            return errorRow("Некорректный JSON");
+        }
+    }
+
+    private String toRow(JsonNode node) throws JsonProcessingException {
+        try {
+            return toRow(objectMapper.treeToValue(node, ItemDto.class));
+        } catch (JsonProcessingException e) {
+            return errorRow("Некорректные данные вещи");
+        }
+    }
+
+    private String errorRow(String error) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(Map.of("error", error));
+    }
+
+    private static void writeRow(Writer writer, String row) throws IOException {
+        writer.write(row);
+        writer.write('\n');
+    }
+}
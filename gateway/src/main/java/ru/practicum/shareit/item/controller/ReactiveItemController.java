@@ -0,0 +1,99 @@
+package ru.practicum.shareit.item.controller;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveItemClient;
+import ru.practicum.shareit.item.comment.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import javax.validation.Valid;
+import javax.validation.constraints.Min;
+
+import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/items")
+@RequiredArgsConstructor
+@Slf4j
+@Validated
+public class ReactiveItemController {
+    private final ReactiveItemClient itemClient;
+    private final ItemImportValidator itemImportValidator;
+
+    @DeleteMapping("/{itemId}")
+    public Mono<Void> delete(@PathVariable Long itemId) {
+        return itemClient.delete(itemId);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addItem(@Valid @RequestBody ItemDto itemDto,
+                                                          @RequestHeader(SHARER_USER_ID) Long userId) {
+        log.info("Запрос на добавление новой вещи {} пользователем с id = {}", itemDto, userId);
+        return itemClient.addItem(itemDto, userId);
+    }
+
+    @PostMapping(value = "/import", consumes = {MediaType.APPLICATION_NDJSON_VALUE, MediaType.APPLICATION_JSON_VALUE})
+    public Mono<ResponseEntity<Flux<DataBuffer>>> importItems(@RequestHeader(SHARER_USER_ID) Long userId,
+                                                              @RequestBody Flux<ItemDto> items) {
+        log.info("Запрос на импорт вещей пользователем с id = {}", userId);
+        return itemClient.importItems(userId, items.handle((itemDto, sink) -> {
+            try {
+                sink.next(itemImportValidator.toRow(itemDto));
+            } catch (JsonProcessingException e) {
+                sink.error(e);
+            }
+        }));
+    }
+
+    @PatchMapping("/{itemId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateItem(@PathVariable Long itemId,
+                                                             @RequestHeader(SHARER_USER_ID) Long userId,
+                                                             @RequestBody ItemDto itemDto) {
+        log.info("Запрос на обновление вещи {}", itemDto);
+        return itemClient.update(itemId, userId, itemDto);
+    }
+
+    @GetMapping("/{itemId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getById(@RequestHeader(SHARER_USER_ID) Long userId,
+                                                          @PathVariable Long itemId) {
+        log.info("Запрос вещи ID: {}", itemId);
+        return itemClient.getItem(itemId, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllByOwnerId(@RequestHeader(SHARER_USER_ID) Long userId,
+                                                                  @RequestParam(defaultValue = "0") @Min(0) int from,
+                                                                  @RequestParam(defaultValue = "20") @Min(1) int size) {
+
+        log.info("Запрос списка вещей пользователя ID: {}", userId);
+        return itemClient.getItemsByUserId(userId, from, size);
+    }
+
+    @GetMapping("/search")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> searchItems(@RequestParam String text,
+                                                              @RequestParam(defaultValue = "0") @Min(0) int from,
+                                                              @RequestParam(defaultValue = "20") @Min(1) int size) {
+
+        log.info("Поисковыый запрос {}", text);
+        return itemClient.searchItemsForRent(text, from, size);
+    }
+
+    @PostMapping("/{itemId}/comment")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> createComment(@PathVariable Long itemId,
+                                                                @RequestHeader(SHARER_USER_ID) Long userId,
+                                                                @Valid @RequestBody CommentDto commentDto) {
+        log.info("Запрос на создание комментария к вещи ID: {}, от пользователя ID: {} ",
+                itemId, userId);
+        return itemClient.createComment(commentDto, userId, itemId);
+    }
+}
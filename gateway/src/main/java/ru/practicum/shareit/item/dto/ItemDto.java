@@ -8,6 +8,7 @@ import ru.practicum.shareit.item.comment.CommentDto;
 
 import javax.validation.constraints.NotBlank;
 import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
 import java.util.List;
 
 @Data
@@ -17,8 +18,10 @@ import java.util.List;
 public class ItemDto {
     private Long id;
     @NotBlank
+    @Size(max = 255)
     private String name;
     @NotBlank
+    @Size(max = 1024)
     private String description;
     @NotNull
     private Boolean available;
@@ -0,0 +1,54 @@
+package ru.practicum.shareit.user.controller;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveUserClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import javax.validation.Valid;
+
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping(path = "/users")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveUserController {
+
+    private final ReactiveUserClient userClient;
+
+    @PostMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> addUser(@Valid @RequestBody UserDto userDto) {
+        log.info("Запрос на добавление пользователя");
+        return userClient.addUser(userDto);
+    }
+
+    @PatchMapping("/{userId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> updateUser(@PathVariable Long userId,
+                                                             @RequestBody UserDto userDto) {
+        log.info("Запрос на обновление пользователя с id = {}, новые данные: {}", userId, userDto);
+        return userClient.updateUser(userDto, userId);
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getAllUsers() {
+        log.info("Запрос на получение списка пользователей");
+        return userClient.getAllUsers();
+    }
+
+    @GetMapping("/{userId}")
+    public Mono<ResponseEntity<Flux<DataBuffer>>> getUserById(@PathVariable Long userId) {
+        log.info("Запрос на получение пользователя с  id = {}", userId);
+        return userClient.getUserById(userId);
+    }
+
+    @DeleteMapping("/{userId}")
+    public Mono<Void> delete(@PathVariable Long userId) {
+        return userClient.delete(userId);
+    }
+}
@@ -0,0 +1,157 @@
+package ru.practicum.shareit.booking.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.booking.dto.BookingRequestDto;
+import ru.practicum.shareit.booking.dto.RequestBookingState;
+import ru.practicum.shareit.client.ReactiveBookingClient;
+
+import java.time.LocalDateTime;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.*;
+import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
+
+@WebFluxTest(controllers = ReactiveBookingController.class)
+public class ReactiveBookingControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveBookingClient bookingClient;
+
+    @Test
+    void addBookingTest() {
+        when(bookingClient.addBooking(any(BookingRequestDto.class), eq(1L)))
+                .thenReturn(Mono.just(ResponseEntity.ok(Flux.empty())));
+
+        webTestClient.post().uri("/bookings")
+                .header(SHARER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(getBody(LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2)))
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(bookingClient, times(1)).addBooking(any(BookingRequestDto.class), eq(1L));
+    }
+
+    @Test
+    void addBookingTest_StartInPast() {
+        webTestClient.post().uri("/bookings")
+                .header(SHARER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(getBody(LocalDateTime.now().minusDays(1), LocalDateTime.now().plusDays(2)))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void addBookingTest_EndBeforeStart() {
+        webTestClient.post().uri("/bookings")
+                .header(SHARER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(getBody(LocalDateTime.now().plusDays(2), LocalDateTime.now().plusDays(1)))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void addBookingTest_MissingUserId() {
+        webTestClient.post().uri("/bookings")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(getBody(LocalDateTime.now().plusDays(1), LocalDateTime.now().plusDays(2)))
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void getAllByStateTest() {
+        when(bookingClient.getAllByState(RequestBookingState.PAST, 1L, 0, 10, null))
+                .thenReturn(Mono.just(ResponseEntity.ok(Flux.empty())));
+
+        webTestClient.get().uri("/bookings?state=past&size=10")
+                .header(SHARER_USER_ID, "1")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(bookingClient, times(1)).getAllByState(RequestBookingState.PAST, 1L, 0, 10, null);
+    }
+
+    @Test
+    void getAllByStateTest_UnknownState() {
+        webTestClient.get().uri("/bookings?state=UNSUPPORTED")
+                .header(SHARER_USER_ID, "1")
+                .exchange()
+                .expectStatus().isBadRequest()
+                .expectBody().jsonPath("$.error").isEqualTo("Unknown state: UNSUPPORTED");
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void getAllByStateTest_NegativeFrom() {
+        webTestClient.get().uri("/bookings?from=-1")
+                .header(SHARER_USER_ID, "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void getAllByStateForOwnerTest_ZeroSize() {
+        webTestClient.get().uri("/bookings/owner?size=0")
+                .header(SHARER_USER_ID, "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void getAllByStateForOwnerTest_MissingUserId() {
+        webTestClient.get().uri("/bookings/owner")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(bookingClient);
+    }
+
+    @Test
+    void approveTest_MissingApproved() {
+        webTestClient.patch().uri("/bookings/1")
+                .header(SHARER_USER_ID, "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(bookingClient, never()).approve(any(), anyBoolean(), any());
+    }
+
+    @Test
+    void exportAllTest_MissingUserId() {
+        webTestClient.get().uri("/bookings/export")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(bookingClient, never()).exportAll(isNull());
+    }
+
+    private static String getBody(LocalDateTime start, LocalDateTime end) {
+        return "{\"itemId\":1,\"start\":\"" + start + "\",\"end\":\"" + end + "\"}";
+    }
+}
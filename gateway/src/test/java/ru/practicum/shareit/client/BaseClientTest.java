@@ -0,0 +1,136 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.test.web.client.MockRestServiceServer;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.method;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
+
+public class BaseClientTest {
+    private static final String SERVER_URL = "http://shareit-server";
+
+    private UserClient userClient;
+    private MockRestServiceServer server;
+
+    @BeforeEach
+    void setUp() {
+        userClient = new UserClient(SERVER_URL, new SimpleClientHttpRequestFactory(), new RestTemplateBuilder(),
+                mock(ServerCallTracing.class));
+        server = MockRestServiceServer.bindTo(userClient.rest).build();
+    }
+
+    @Test
+    void forwardedHeadersTest() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("Connection", "close");
+        headers.add("Keep-Alive", "timeout=5");
+        headers.add("Transfer-Encoding", "chunked");
+        headers.add("TE", "trailers");
+        headers.add("Trailer", "Expires");
+        headers.add("Upgrade", "h2c");
+        headers.add("Proxy-Authenticate", "Basic");
+        headers.add("Proxy-Authorization", "Basic dXNlcg==");
+        headers.add("Content-Length", "42");
+        headers.add("Date", "Sun, 18 Oct 2026 12:00:00 GMT");
+        headers.add("Content-Type", "application/json");
+        headers.add("X-Request-Id", "request-1");
+        headers.add("Vary", "Accept");
+        headers.add("Vary", "Origin");
+
+        HttpHeaders forwarded = BaseClient.forwardedHeaders(headers);
+
+        assertThat(forwarded.size(), equalTo(3));
+        assertThat(forwarded.getContentType(), equalTo(MediaType.APPLICATION_JSON));
+        assertThat(forwarded.getFirst("X-Request-Id"), equalTo("request-1"));
+        assertThat(forwarded.get("Vary"), equalTo(headers.get("Vary")));
+        assertThat(BaseClient.forwardedHeaders(null).isEmpty(), equalTo(true));
+    }
+
+    @Test
+    void getUserByIdTest_ErrorPassedThrough() {
+        String body = "{\"error\":\"Пользователь не найден\"}";
+        HttpHeaders headers = new HttpHeaders();
+        headers.add("X-Request-Id", "request-1");
+        headers.add("Connection", "close");
+        headers.add("Keep-Alive", "timeout=5");
+
+        server.expect(requestTo(SERVER_URL + "/users/1"))
+                .andExpect(method(HttpMethod.GET))
+                .andRespond(withStatus(HttpStatus.NOT_FOUND)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .headers(headers)
+                        .body(body.getBytes(StandardCharsets.UTF_8)));
+
+        ResponseEntity<Object> response = userClient.getUserById(1L);
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.NOT_FOUND));
+        assertThat(response.getHeaders().getContentType(), equalTo(MediaType.APPLICATION_JSON));
+        assertThat(response.getHeaders().getFirst("X-Request-Id"), equalTo("request-1"));
+        assertThat(response.getHeaders().getFirst("Connection"), nullValue());
+        assertThat(response.getHeaders().getFirst("Keep-Alive"), nullValue());
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(body));
+        server.verify();
+    }
+
+    @Test
+    void getAllUsersTest_ServerErrorPassedThrough() {
+        server.expect(requestTo(SERVER_URL + "/users"))
+                .andRespond(withStatus(HttpStatus.INTERNAL_SERVER_ERROR)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body("{\"error\":\"boom\"}"));
+
+        ResponseEntity<Object> response = userClient.getAllUsers();
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.INTERNAL_SERVER_ERROR));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo("{\"error\":\"boom\"}"));
+        server.verify();
+    }
+
+    @Test
+    void updateUserTest_BodyPassedThroughAsBytes() {
+        String body = "{\"id\":2,\"name\":\"User\",\"email\":\"user@user.com\"}";
+
+        server.expect(requestTo(SERVER_URL + "/users/2"))
+                .andExpect(method(HttpMethod.PATCH))
+                .andExpect(header(SHARER_USER_ID, "2"))
+                .andExpect(header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE))
+                .andRespond(withStatus(HttpStatus.OK)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .body(body));
+
+        ResponseEntity<Object> response = userClient.updateUser(UserDto.builder().name("User").build(), 2L);
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.OK));
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo(body));
+        server.verify();
+    }
+
+    @Test
+    void deleteTest_EmptyBody() {
+        server.expect(requestTo(SERVER_URL + "/users/3"))
+                .andExpect(method(HttpMethod.DELETE))
+                .andRespond(withStatus(HttpStatus.NO_CONTENT));
+
+        userClient.delete(3L);
+
+        server.verify();
+    }
+}
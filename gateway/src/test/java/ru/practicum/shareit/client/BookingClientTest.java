@@ -0,0 +1,109 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.http.server.ServletServerHttpResponse;
+import org.springframework.mock.web.MockHttpServletResponse;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
+
+public class BookingClientTest {
+    private static final String FIRST_ROW = "{\"id\":1}\n";
+    private static final String SECOND_ROW = "{\"id\":2}\n";
+
+    private final CountDownLatch firstRowDelivered = new CountDownLatch(1);
+    private final AtomicBoolean firstRowDeliveredBeforeEnd = new AtomicBoolean();
+
+    private DisposableServer server;
+    private BookingClient bookingClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/bookings/export", (request, response) -> {
+                            if (!"1".equals(request.requestHeaders().get(SHARER_USER_ID))) {
+                                return response
+                                        .status(HttpStatus.FORBIDDEN.value())
+                                        .header("Content-Type", "application/json")
+                                        .header("Keep-Alive", "timeout=5")
+                                        .sendString(Mono.just("{\"error\":\"Доступ запрещён\"}"),
+                                                StandardCharsets.UTF_8);
+                            }
+                            return response
+                                    .header("Content-Type", "application/x-ndjson")
+                                    .header("X-Request-Id", "request-1")
+                                    .sendString(Flux.concat(Mono.just(FIRST_ROW), Mono.fromCallable(() -> {
+                                        firstRowDeliveredBeforeEnd.set(firstRowDelivered.await(5, TimeUnit.SECONDS));
+                                        return SECOND_ROW;
+                                    }).subscribeOn(Schedulers.boundedElastic())), StandardCharsets.UTF_8);
+                        }))
+                .bindNow();
+
+        bookingClient = new BookingClient("http://localhost:" + server.port(),
+                new HttpComponentsClientHttpRequestFactory(), new RestTemplateBuilder(), mock(ServerCallTracing.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void exportAllTest_RowsStreamedBeforeExportEnds() throws Exception {
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+        Thread watcher = new Thread(() -> {
+            long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+            while (System.nanoTime() < deadline) {
+                if (servletResponse.getContentAsByteArray().length > 0) {
+                    firstRowDelivered.countDown();
+                    return;
+                }
+                Thread.onSpinWait();
+            }
+        });
+        watcher.start();
+
+        bookingClient.exportAll(1L, new ServletServerHttpResponse(servletResponse));
+        watcher.join();
+
+        assertThat(firstRowDeliveredBeforeEnd.get(), equalTo(true));
+        assertThat(servletResponse.getStatus(), equalTo(HttpStatus.OK.value()));
+        assertThat(servletResponse.getContentType(), equalTo("application/x-ndjson"));
+        assertThat(servletResponse.getHeader("X-Request-Id"), equalTo("request-1"));
+        assertThat(servletResponse.getHeader("Transfer-Encoding"), nullValue());
+        assertThat(servletResponse.getContentAsString(StandardCharsets.UTF_8), equalTo(FIRST_ROW + SECOND_ROW));
+    }
+
+    @Test
+    void exportAllTest_ErrorPassedThrough() throws Exception {
+        MockHttpServletResponse servletResponse = new MockHttpServletResponse();
+
+        bookingClient.exportAll(2L, new ServletServerHttpResponse(servletResponse));
+
+        assertThat(servletResponse.getStatus(), equalTo(HttpStatus.FORBIDDEN.value()));
+        assertThat(servletResponse.getContentType(), equalTo("application/json"));
+        assertThat(servletResponse.getHeader("Keep-Alive"), nullValue());
+        assertThat(servletResponse.getContentAsString(StandardCharsets.UTF_8),
+                equalTo("{\"error\":\"Доступ запрещён\"}"));
+    }
+}
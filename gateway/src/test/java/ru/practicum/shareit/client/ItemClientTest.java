@@ -0,0 +1,88 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.Mockito.mock;
+
+public class ItemClientTest {
+    private static final String FIRST_ROW = "{\"name\":\"Дрель\"}\n";
+    private static final String SECOND_ROW = "{\"name\":\"Пила\"}\n";
+
+    private final CountDownLatch firstRowReceived = new CountDownLatch(1);
+    private final AtomicReference<String> contentLength = new AtomicReference<>();
+
+    private DisposableServer server;
+    private ItemClient itemClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .post("/items/import", (request, response) -> {
+                            contentLength.set(request.requestHeaders().get("Content-Length"));
+                            return response
+                                    .status(HttpStatus.CONFLICT.value())
+                                    .header("Content-Type", "application/json")
+                                    .header("Connection", "keep-alive")
+                                    .sendString(request.receive()
+                                            .asString(StandardCharsets.UTF_8)
+                                            .doOnNext(chunk -> firstRowReceived.countDown())
+                                            .collect(Collectors.joining())
+                                            .map(body -> "{\"rows\":" + body.split("\n").length + "}"),
+                                            StandardCharsets.UTF_8);
+                        }))
+                .bindNow();
+
+        HttpComponentsClientHttpRequestFactory streamingRequestFactory = new HttpComponentsClientHttpRequestFactory();
+        streamingRequestFactory.setBufferRequestBody(false);
+
+        itemClient = new ItemClient("http://localhost:" + server.port(), new HttpComponentsClientHttpRequestFactory(),
+                streamingRequestFactory, new RestTemplateBuilder(), mock(ServerCallTracing.class));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void importItemsTest_RowsStreamedBeforeImportEnds() {
+        AtomicBoolean firstRowReceivedBeforeEnd = new AtomicBoolean();
+
+        ResponseEntity<Object> response = itemClient.importItems(1L, body -> {
+            body.write(FIRST_ROW.getBytes(StandardCharsets.UTF_8));
+            body.flush();
+            try {
+                firstRowReceivedBeforeEnd.set(firstRowReceived.await(5, TimeUnit.SECONDS));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            body.write(SECOND_ROW.getBytes(StandardCharsets.UTF_8));
+        });
+
+        assertThat(firstRowReceivedBeforeEnd.get(), equalTo(true));
+        assertThat(contentLength.get(), nullValue());
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.CONFLICT));
+        assertThat(response.getHeaders().getFirst("Connection"), nullValue());
+        assertThat(new String((byte[]) response.getBody(), StandardCharsets.UTF_8), equalTo("{\"rows\":2}"));
+    }
+}
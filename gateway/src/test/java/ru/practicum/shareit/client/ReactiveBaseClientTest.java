@@ -0,0 +1,100 @@
+package ru.practicum.shareit.client;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.sleuth.Span;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.nullValue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
+
+public class ReactiveBaseClientTest {
+    private static final String NOT_FOUND_BODY = "{\"error\":\"Пользователь не найден\"}";
+
+    private DisposableServer server;
+    private ReactiveUserClient userClient;
+
+    @BeforeEach
+    void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/users/1", (request, response) -> response
+                                .status(HttpStatus.NOT_FOUND.value())
+                                .header("Content-Type", "application/json")
+                                .header("X-Request-Id", "request-1")
+                                .header("Keep-Alive", "timeout=5")
+                                .header("Proxy-Authenticate", "Basic")
+                                .sendString(Mono.just(NOT_FOUND_BODY), StandardCharsets.UTF_8))
+                        .route(request -> request.method().name().equals("PATCH")
+                                && request.uri().equals("/users/2"), (request, response) -> response
+                                .status(HttpStatus.CONFLICT.value())
+                                .header("Content-Type", "application/json")
+                                .sendString(request.receive().aggregate().asString()
+                                        .map(body -> "{\"user\":\"" + request.requestHeaders().get(SHARER_USER_ID)
+                                                + "\"}"))))
+                .bindNow();
+
+        ServerCallTracing tracing = mock(ServerCallTracing.class);
+        when(tracing.startSpan(any(), any(), any())).thenReturn(mock(Span.class));
+
+        userClient = new ReactiveUserClient("http://localhost:" + server.port(), new ReactorClientHttpConnector(),
+                WebClient.builder(), tracing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.disposeNow();
+    }
+
+    @Test
+    void getUserByIdTest_ErrorPassedThrough() {
+        ResponseEntity<Flux<DataBuffer>> response = userClient.getUserById(1L).block();
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.NOT_FOUND));
+        assertThat(response.getHeaders().getFirst("X-Request-Id"), equalTo("request-1"));
+        assertThat(response.getHeaders().getFirst("Content-Type"), equalTo("application/json"));
+        assertThat(response.getHeaders().getFirst("Keep-Alive"), nullValue());
+        assertThat(response.getHeaders().getFirst("Proxy-Authenticate"), nullValue());
+        assertThat(response.getHeaders().getFirst("Content-Length"), nullValue());
+        assertThat(bodyOf(response), equalTo(NOT_FOUND_BODY));
+    }
+
+    @Test
+    void updateUserTest_StatusAndBodyPassedThrough() {
+        ResponseEntity<Flux<DataBuffer>> response = userClient.updateUser(UserDto.builder()
+                .name("User")
+                .build(), 2L).block();
+
+        assertThat(response.getStatusCode(), equalTo(HttpStatus.CONFLICT));
+        assertThat(bodyOf(response), equalTo("{\"user\":\"2\"}"));
+    }
+
+    private static String bodyOf(ResponseEntity<Flux<DataBuffer>> response) {
+        return DataBufferUtils.join(response.getBody())
+                .map(buffer -> {
+                    String body = buffer.toString(StandardCharsets.UTF_8);
+                    DataBufferUtils.release(buffer);
+                    return body;
+                })
+                .block();
+    }
+}
@@ -0,0 +1,107 @@
+package ru.practicum.shareit.item.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import javax.validation.Validation;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.startsWith;
+
+public class ItemImportValidatorTest {
+    private static final String VALID_ROW = "{\"name\":\"Дрель\",\"description\":\"Простая дрель\",\"available\":true}";
+
+    private ObjectMapper objectMapper;
+    private ItemImportValidator itemImportValidator;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        itemImportValidator = new ItemImportValidator(objectMapper,
+                Validation.buildDefaultValidatorFactory().getValidator());
+    }
+
+    @Test
+    void writeRowsTest_NdjsonWithInvalidRows() throws IOException {
+        String items = VALID_ROW + "\n" +
+                "\n" +
+                "{\"name\":\" \",\"description\":\"Пустое имя\",\"available\":true}\n" +
+                "{\"name\":\"" + "a".repeat(256) + "\",\"description\":\"Длинное имя\",\"available\":true}\n" +
+                "{\"name\":\"Пила\",\"description\":\"" + "a".repeat(1025) + "\",\"available\":true}\n" +
+                "{\"name\":\n" +
+                "[1, 2]\n" +
+                "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":\"может быть\"}\n" +
+                "{\"name\":\"Молоток\",\"description\":\"Большой\",\"available\":false,\"requestId\":2}\n";
+
+        List<JsonNode> rows = writeRows(items, MediaType.APPLICATION_NDJSON);
+
+        assertThat(rows.size(), equalTo(8));
+        assertThat(rows.get(0).get("name").asText(), equalTo("Дрель"));
+        assertThat(rows.get(1).get("error").asText(), startsWith("name: "));
+        assertThat(rows.get(2).get("error").asText(), startsWith("name: "));
+        assertThat(rows.get(3).get("error").asText(), startsWith("description: "));
+        assertThat(rows.get(4).get("error").asText(), equalTo("Некорректный JSON"));
+        assertThat(rows.get(5).get("error").asText(), equalTo("Некорректные данные вещи"));
+        assertThat(rows.get(6).get("error").asText(), equalTo("Некорректные данные вещи"));
+        assertThat(rows.get(7).get("name").asText(), equalTo("Молоток"));
+        assertThat(rows.get(7).get("requestId").asLong(), equalTo(2L));
+    }
+
+    @Test
+    void writeRowsTest_JsonArrayWithInvalidRows() throws IOException {
+        String items = "[" + VALID_ROW + ", {\"name\":\"Пила\",\"available\":true}]";
+
+        List<JsonNode> rows = writeRows(items, MediaType.APPLICATION_JSON);
+
+        assertThat(rows.size(), equalTo(2));
+        assertThat(rows.get(0).get("name").asText(), equalTo("Дрель"));
+        assertThat(rows.get(1).get("error").asText(), startsWith("description: "));
+    }
+
+    @Test
+    void writeRowsTest_MalformedJsonArray() throws IOException {
+        String items = "[" + VALID_ROW + ", {\"name\": , " + VALID_ROW + "]";
+
+        List<JsonNode> rows = writeRows(items, MediaType.APPLICATION_JSON);
+
+        assertThat(rows.size(), equalTo(2));
+        assertThat(rows.get(0).get("name").asText(), equalTo("Дрель"));
+        assertThat(rows.get(1).get("error").asText(), equalTo("Некорректный JSON, остальные строки не обработаны"));
+    }
+
+    @Test
+    void writeRowsTest_ContentTypeSelectsParser() throws IOException {
+        String items = "[" + VALID_ROW + ", " + VALID_ROW + "]";
+
+        assertThat(writeRows(items, MediaType.APPLICATION_JSON).size(), equalTo(2));
+
+        List<JsonNode> ndjsonRows = writeRows(items, MediaType.APPLICATION_NDJSON);
+
+        assertThat(ndjsonRows.size(), equalTo(1));
+        assertThat(ndjsonRows.get(0).get("error").asText(), equalTo("Некорректные данные вещи"));
+    }
+
+    private List<JsonNode> writeRows(String items, MediaType contentType) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        itemImportValidator.writeRows(new ByteArrayInputStream(items.getBytes(StandardCharsets.UTF_8)), contentType,
+                output);
+
+        List<JsonNode> rows = new ArrayList<>();
+        for (String row : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            rows.add(objectMapper.readTree(row));
+        }
+        return rows;
+    }
+}
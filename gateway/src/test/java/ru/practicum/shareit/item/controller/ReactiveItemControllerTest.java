@@ -0,0 +1,119 @@
+package ru.practicum.shareit.item.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveItemClient;
+import ru.practicum.shareit.item.comment.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
+
+@WebFluxTest(controllers = ReactiveItemController.class)
+@Import(ItemImportValidator.class)
+public class ReactiveItemControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveItemClient itemClient;
+
+    @Test
+    void addItemTest() {
+        when(itemClient.addItem(any(ItemDto.class), eq(1L))).thenReturn(Mono.just(ResponseEntity.ok(Flux.empty())));
+
+        webTestClient.post().uri("/items")
+                .header(SHARER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Дрель\",\"description\":\"Простая дрель\",\"available\":true}")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(itemClient, times(1)).addItem(any(ItemDto.class), eq(1L));
+    }
+
+    @Test
+    void addItemTest_MissingAvailable() {
+        webTestClient.post().uri("/items")
+                .header(SHARER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Дрель\",\"description\":\"Простая дрель\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void addItemTest_TooLongName() {
+        webTestClient.post().uri("/items")
+                .header(SHARER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"" + "a".repeat(256) + "\",\"description\":\"Дрель\",\"available\":true}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void addItemTest_MissingUserId() {
+        webTestClient.post().uri("/items")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"Дрель\",\"description\":\"Простая дрель\",\"available\":true}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void createCommentTest_BlankText() {
+        webTestClient.post().uri("/items/1/comment")
+                .header(SHARER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"text\":\" \"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verify(itemClient, never()).createComment(any(CommentDto.class), any(), any());
+    }
+
+    @Test
+    void getAllByOwnerIdTest_NegativeFrom() {
+        webTestClient.get().uri("/items?from=-1")
+                .header(SHARER_USER_ID, "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void searchItemsTest_ZeroSize() {
+        webTestClient.get().uri("/items/search?text=дрель&size=0")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemClient);
+    }
+
+    @Test
+    void getByIdTest_MissingUserId() {
+        webTestClient.get().uri("/items/1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemClient);
+    }
+}
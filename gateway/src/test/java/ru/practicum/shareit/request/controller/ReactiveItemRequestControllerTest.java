@@ -0,0 +1,106 @@
+package ru.practicum.shareit.request.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveItemRequestClient;
+import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
+
+@WebFluxTest(controllers = ReactiveItemRequestController.class)
+public class ReactiveItemRequestControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveItemRequestClient itemRequestClient;
+
+    @Test
+    void createTest() {
+        when(itemRequestClient.create(any(ItemRequestCreateDto.class), eq(1L)))
+                .thenReturn(Mono.just(ResponseEntity.ok(Flux.empty())));
+
+        webTestClient.post().uri("/requests")
+                .header(SHARER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"Нужна дрель\"}")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(itemRequestClient, times(1)).create(any(ItemRequestCreateDto.class), eq(1L));
+    }
+
+    @Test
+    void createTest_BlankDescription() {
+        webTestClient.post().uri("/requests")
+                .header(SHARER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemRequestClient);
+    }
+
+    @Test
+    void createTest_TooLongDescription() {
+        webTestClient.post().uri("/requests")
+                .header(SHARER_USER_ID, "1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"" + "a".repeat(1025) + "\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemRequestClient);
+    }
+
+    @Test
+    void createTest_MissingUserId() {
+        webTestClient.post().uri("/requests")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"description\":\"Нужна дрель\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemRequestClient);
+    }
+
+    @Test
+    void getAllByOwnerIdTest_NegativeFrom() {
+        webTestClient.get().uri("/requests?from=-1")
+                .header(SHARER_USER_ID, "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemRequestClient);
+    }
+
+    @Test
+    void getAllTest_ZeroSize() {
+        webTestClient.get().uri("/requests/all?size=0")
+                .header(SHARER_USER_ID, "1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemRequestClient);
+    }
+
+    @Test
+    void getByIdTest_MissingUserId() {
+        webTestClient.get().uri("/requests/1")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(itemRequestClient);
+    }
+}
@@ -0,0 +1,71 @@
+package ru.practicum.shareit.user.controller;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.WebFluxTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import ru.practicum.shareit.client.ReactiveUserClient;
+import ru.practicum.shareit.user.dto.UserDto;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@WebFluxTest(controllers = ReactiveUserController.class)
+public class ReactiveUserControllerTest {
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @MockBean
+    private ReactiveUserClient userClient;
+
+    @Test
+    void addUserTest() {
+        when(userClient.addUser(any(UserDto.class))).thenReturn(Mono.just(ResponseEntity.ok(Flux.empty())));
+
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"User\",\"email\":\"user@user.com\"}")
+                .exchange()
+                .expectStatus().isOk();
+
+        verify(userClient, times(1)).addUser(any(UserDto.class));
+    }
+
+    @Test
+    void addUserTest_InvalidEmail() {
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\"User\",\"email\":\"user.com\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(userClient);
+    }
+
+    @Test
+    void addUserTest_BlankName() {
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":\" \",\"email\":\"user@user.com\"}")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(userClient);
+    }
+
+    @Test
+    void addUserTest_MalformedJson() {
+        webTestClient.post().uri("/users")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue("{\"name\":")
+                .exchange()
+                .expectStatus().isBadRequest();
+
+        verifyNoInteractions(userClient);
+    }
+}
@@ -0,0 +1,92 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.PrintStream;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+public class LatencyRecorder {
+    private final Map<Operation, Latencies> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Long> errors = new EnumMap<>(Operation.class);
+
+    public void record(Operation operation, int status, long nanos) {
+        if (ShareItApi.isSuccess(status)) {
+            latencies.computeIfAbsent(operation, key -> new Latencies()).add(nanos);
+        } else {
+            recordError(operation);
+        }
+    }
+
+    public void recordError(Operation operation) {
+        errors.merge(operation, 1L, Long::sum);
+    }
+
+    public void merge(LatencyRecorder other) {
+        other.latencies.forEach((operation, values) ->
+                latencies.computeIfAbsent(operation, key -> new Latencies()).addAll(values));
+        other.errors.forEach((operation, count) -> errors.merge(operation, count, Long::sum));
+    }
+
+    public void print(Duration measured, PrintStream out) {
+        double seconds = measured.toMillis() / 1000.0;
+        Latencies total = new Latencies();
+
+        out.printf("%-22s %10s %8s %10s %10s %10s %10s%n", "Endpoint", "Запросов", "Ошибок", "p50, мс",
+                "p99, мс", "Макс, мс", "Запр./с");
+
+        for (Operation operation : Operation.values()) {
+            Latencies values = latencies.getOrDefault(operation, new Latencies());
+            long operationErrors = errors.getOrDefault(operation, 0L);
+
+            if (values.size > 0 || operationErrors > 0) {
+                printRow(out, operation.getEndpoint(), values, operationErrors, seconds);
+                total.addAll(values);
+            }
+        }
+
+        printRow(out, "Всего", total, errors.values().stream().mapToLong(Long::longValue).sum(), seconds);
+    }
+
+    private static void printRow(PrintStream out, String name, Latencies values, long errors, double seconds) {
+        values.sort();
+        out.printf("%-22s %10d %8d %10.2f %10.2f %10.2f %10.1f%n", name, values.size, errors,
+                millis(values.percentile(0.50)), millis(values.percentile(0.99)), millis(values.percentile(1.0)),
+                values.size / seconds);
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static class Latencies {
+        private long[] values = new long[1024];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size * 2);
+            }
+            values[size++] = value;
+        }
+
+        void addAll(Latencies other) {
+            if (size + other.size > values.length) {
+                values = Arrays.copyOf(values, Math.max(size + other.size, size * 2));
+            }
+            System.arraycopy(other.values, 0, values, size, other.size);
+            size += other.size;
+        }
+
+        void sort() {
+            Arrays.sort(values, 0, size);
+        }
+
+        long percentile(double percentile) {
+            if (size == 0) {
+                return 0;
+            }
+            return values[Math.max(0, (int) Math.ceil(percentile * size) - 1)];
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class LoadScenario {
+    public static final int SKIPPED = 0;
+
+    private static final List<String> WORDS = List.of("Дрель", "Пила", "Отвертка", "Молоток", "Лестница",
+            "Палатка", "Велосипед", "Проектор", "Самокат", "Удочка");
+    private static final int PAGE_SIZE = 20;
+
+    private final ShareItApi api;
+    private final LocalDateTime bookingsStart = LocalDateTime.now().plusDays(1).truncatedTo(ChronoUnit.HOURS);
+    private final List<Long> owners = new ArrayList<>();
+    private final List<Long> bookers = new ArrayList<>();
+    private final List<Long> requests = new ArrayList<>();
+    private final List<SeededItem> items = new ArrayList<>();
+    private final Queue<PendingBooking> pendingBookings = new ConcurrentLinkedQueue<>();
+
+    public LoadScenario(ShareItApi api) {
+        this.api = api;
+    }
+
+    public void seed(LoadTestSettings settings) throws IOException, InterruptedException {
+        Random random = new Random(42);
+        long run = System.currentTimeMillis();
+
+        for (int i = 0; i < settings.getOwners(); i++) {
+            owners.add(api.create("/users", null, Map.of("name", "Владелец " + i,
+                    "email", "owner" + i + "." + run + "@load.test")));
+        }
+
+        for (int i = 0; i < settings.getBookers(); i++) {
+            bookers.add(api.create("/users", null, Map.of("name", "Арендатор " + i,
+                    "email", "booker" + i + "." + run + "@load.test")));
+        }
+
+        for (int i = 0; i < settings.getRequests(); i++) {
+            String word = WORDS.get(random.nextInt(WORDS.size()));
+            requests.add(api.create("/requests", randomOf(bookers, random), Map.of("description",
+                    "Нужна " + word.toLowerCase() + " на выходные")));
+        }
+
+        for (Long owner : owners) {
+            for (int i = 0; i < settings.getItemsPerOwner(); i++) {
+                String word = WORDS.get(random.nextInt(WORDS.size()));
+                Map<String, Object> item = new HashMap<>(Map.of("name", word + " " + i,
+                        "description", word + " в хорошем состоянии, владелец " + owner,
+                        "available", true));
+
+                if (!requests.isEmpty() && i % 4 == 0) {
+                    item.put("requestId", randomOf(requests, random));
+                }
+
+                items.add(new SeededItem(api.create("/items", owner, item), owner));
+            }
+        }
+
+        System.out.println("Подготовлено: " + owners.size() + " владельцев, " + bookers.size() + " арендаторов, "
+                + requests.size() + " запросов, " + items.size() + " вещей");
+    }
+
+    public int execute(Operation operation, Random random) throws IOException, InterruptedException {
+        switch (operation) {
+            case CREATE_BOOKING:
+                return createBooking(random);
+            case APPROVE_BOOKING:
+                PendingBooking booking = pendingBookings.poll();
+                return booking == null ? SKIPPED
+                        : api.patch("/bookings/" + booking.id + "?approved=true", booking.ownerId);
+            case GET_ITEM:
+                SeededItem item = randomOf(items, random);
+                return api.get("/items/" + item.id, random.nextBoolean() ? item.ownerId : randomOf(bookers, random));
+            case GET_ITEMS:
+                return api.get("/items?from=" + random.nextInt(2) * PAGE_SIZE + "&size=" + PAGE_SIZE,
+                        randomOf(owners, random));
+            case SEARCH_ITEMS:
+                String text = WORDS.get(random.nextInt(WORDS.size())).substring(0, 4).toLowerCase();
+                return api.get("/items/search?from=0&size=" + PAGE_SIZE + "&text="
+                        + URLEncoder.encode(text, StandardCharsets.UTF_8), randomOf(bookers, random));
+            case GET_ALL_REQUESTS:
+                return api.get("/requests/all?from=0&size=" + PAGE_SIZE, randomOf(bookers, random));
+            default:
+                throw new IllegalArgumentException("Неизвестная операция: " + operation);
+        }
+    }
+
+    private int createBooking(Random random) throws IOException, InterruptedException {
+        SeededItem item = randomOf(items, random);
+        LocalDateTime start = bookingsStart.plusHours(2L * item.slots.getAndIncrement());
+
+        HttpResponse<byte[]> response = api.post("/bookings", randomOf(bookers, random), Map.of(
+                "itemId", item.id,
+                "start", start.format(DateTimeFormatter.ISO_LOCAL_DATE_TIME),
+                "end", start.plusHours(1).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME)));
+
+        if (ShareItApi.isSuccess(response.statusCode())) {
+            pendingBookings.add(new PendingBooking(api.readId(response.body()), item.ownerId));
+        }
+
+        return response.statusCode();
+    }
+
+    private static <T> T randomOf(List<T> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private static class SeededItem {
+        private final long id;
+        private final long ownerId;
+        private final AtomicInteger slots = new AtomicInteger();
+
+        SeededItem(long id, long ownerId) {
+            this.id = id;
+            this.ownerId = ownerId;
+        }
+    }
+
+    private static class PendingBooking {
+        private final long id;
+        private final long ownerId;
+
+        PendingBooking(long id, long ownerId) {
+            this.id = id;
+            this.ownerId = ownerId;
+        }
+    }
+}
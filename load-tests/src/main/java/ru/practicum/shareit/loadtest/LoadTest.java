@@ -0,0 +1,114 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class LoadTest {
+
+    public static void main(String[] args) throws Exception {
+        LoadTestSettings settings = new LoadTestSettings(args);
+        HttpClient client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+
+        try (ShareItProcess server = ShareItProcess.start("server", settings.getServerJar(),
+                settings.getServerPort(), settings.getJvmArgs(), serverProperties(settings), settings.getLogsDir());
+             ShareItProcess gateway = ShareItProcess.start("gateway", settings.getGatewayJar(),
+                     settings.getGatewayPort(), settings.getJvmArgs(), gatewayProperties(settings),
+                     settings.getLogsDir())) {
+            server.awaitReady(client, settings.getStartupTimeout());
+            gateway.awaitReady(client, settings.getStartupTimeout());
+
+            LoadScenario scenario = new LoadScenario(new ShareItApi(client, new ObjectMapper(),
+                    settings.getGatewayPort()));
+            scenario.seed(settings);
+
+            System.out.println("Нагрузка: " + settings.getThreads() + " потоков, прогрев "
+                    + settings.getWarmup().toSeconds() + " с, замер " + settings.getDuration().toSeconds() + " с");
+
+            run(scenario, new OperationMix(settings.getMix()), settings).print(settings.getDuration(), System.out);
+        }
+    }
+
+    private static LatencyRecorder run(LoadScenario scenario, OperationMix mix, LoadTestSettings settings)
+            throws Exception {
+        long measureFrom = System.nanoTime() + settings.getWarmup().toNanos();
+        long measureUntil = measureFrom + settings.getDuration().toNanos();
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.getThreads());
+        try {
+            List<Future<LatencyRecorder>> workers = new ArrayList<>();
+            for (int i = 0; i < settings.getThreads(); i++) {
+                workers.add(executor.submit(worker(scenario, mix, measureFrom, measureUntil)));
+            }
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            for (Future<LatencyRecorder> worker : workers) {
+                recorder.merge(worker.get());
+            }
+            return recorder;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static Callable<LatencyRecorder> worker(LoadScenario scenario, OperationMix mix, long measureFrom,
+                                                    long measureUntil) {
+        return () -> {
+            LatencyRecorder recorder = new LatencyRecorder();
+            Random random = ThreadLocalRandom.current();
+
+            long start;
+            while ((start = System.nanoTime()) < measureUntil) {
+                Operation operation = mix.next(random);
+
+                try {
+                    int status = scenario.execute(operation, random);
+
+                    if (status != LoadScenario.SKIPPED && start >= measureFrom) {
+                        recorder.record(operation, status, System.nanoTime() - start);
+                    }
+                } catch (IOException e) {
+                    if (start >= measureFrom) {
+                        recorder.recordError(operation);
+                    }
+                }
+            }
+
+            return recorder;
+        };
+    }
+
+    private static List<String> serverProperties(LoadTestSettings settings) {
+        if (settings.getDbUrl().isBlank()) {
+            return List.of("--spring.profiles.active=test");
+        }
+
+        return List.of("--spring.datasource.url=" + settings.getDbUrl(),
+                "--spring.datasource.username=" + settings.getDbUsername(),
+                "--spring.datasource.password=" + settings.getDbPassword());
+    }
+
+    private static List<String> gatewayProperties(LoadTestSettings settings) {
+        List<String> properties = new ArrayList<>();
+        properties.add("--shareit-server.url=http://localhost:" + settings.getServerPort());
+
+        if (!settings.getGatewayProfile().isBlank()) {
+            properties.add("--spring.profiles.active=" + settings.getGatewayProfile());
+        }
+
+        return properties;
+    }
+}
@@ -0,0 +1,136 @@
+package ru.practicum.shareit.loadtest;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.Stream;
+
+public class LoadTestSettings {
+    private static final String DEFAULT_MIX = "create-booking:10,approve-booking:5,get-item:35,get-items:20,"
+            + "search-items:20,get-all-requests:10";
+
+    private final Map<String, String> values = new HashMap<>();
+
+    public LoadTestSettings(String[] args) {
+        for (String arg : args) {
+            if (!arg.startsWith("--") || !arg.contains("=")) {
+                throw new IllegalArgumentException("Некорректный параметр: " + arg + ", ожидается --имя=значение");
+            }
+            values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+        }
+    }
+
+    public Path getServerJar() {
+        return jar("server-jar", Path.of("server", "target"), "shareit-server-", "-exec.jar");
+    }
+
+    public Path getGatewayJar() {
+        return jar("gateway-jar", Path.of("gateway", "target"), "shareit-gateway-", ".jar");
+    }
+
+    public int getServerPort() {
+        return getInt("server-port", 19090);
+    }
+
+    public int getGatewayPort() {
+        return getInt("gateway-port", 18080);
+    }
+
+    public String getGatewayProfile() {
+        return values.getOrDefault("gateway-profile", "");
+    }
+
+    public String getDbUrl() {
+        return values.getOrDefault("db-url", "");
+    }
+
+    public String getDbUsername() {
+        return values.getOrDefault("db-username", "root");
+    }
+
+    public String getDbPassword() {
+        return values.getOrDefault("db-password", "root");
+    }
+
+    public String getJvmArgs() {
+        return values.getOrDefault("jvm-args", "-Xmx1g");
+    }
+
+    public Path getLogsDir() {
+        return Path.of(values.getOrDefault("logs-dir", Path.of("load-tests", "target", "logs").toString()));
+    }
+
+    public Duration getStartupTimeout() {
+        return Duration.ofSeconds(getInt("startup-timeout", 180));
+    }
+
+    public int getThreads() {
+        return getInt("threads", 32);
+    }
+
+    public Duration getWarmup() {
+        return Duration.ofSeconds(getInt("warmup", 15));
+    }
+
+    public Duration getDuration() {
+        return Duration.ofSeconds(getInt("duration", 60));
+    }
+
+    public int getOwners() {
+        return getInt("owners", 20);
+    }
+
+    public int getItemsPerOwner() {
+        return getInt("items-per-owner", 50);
+    }
+
+    public int getBookers() {
+        return getInt("bookers", 100);
+    }
+
+    public int getRequests() {
+        return getInt("requests", 200);
+    }
+
+    public Map<Operation, Integer> getMix() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+
+        for (String entry : values.getOrDefault("mix", DEFAULT_MIX).split(",")) {
+            String[] weight = entry.split(":");
+
+            if (weight.length != 2) {
+                throw new IllegalArgumentException("Некорректный элемент нагрузки: " + entry);
+            }
+            mix.put(Operation.fromName(weight[0].trim()), Integer.parseInt(weight[1].trim()));
+        }
+
+        return mix;
+    }
+
+    private int getInt(String name, int defaultValue) {
+        String value = values.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private Path jar(String name, Path dir, String prefix, String suffix) {
+        if (values.containsKey(name)) {
+            return Path.of(values.get(name));
+        }
+
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.filter(file -> file.getFileName().toString().startsWith(prefix))
+                    .filter(file -> file.getFileName().toString().endsWith(suffix))
+                    .findFirst()
+                    .orElseThrow(() -> new IllegalStateException("Не найден " + dir.resolve(prefix + "*" + suffix)
+                            + ", соберите проект или укажите --" + name));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Не удалось прочитать " + dir + ", соберите проект или укажите --" + name,
+                    e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package ru.practicum.shareit.loadtest;
+
+import java.util.Arrays;
+
+public enum Operation {
+    CREATE_BOOKING("create-booking", "POST /bookings"),
+    APPROVE_BOOKING("approve-booking", "PATCH /bookings/{id}"),
+    GET_ITEM("get-item", "GET /items/{id}"),
+    GET_ITEMS("get-items", "GET /items"),
+    SEARCH_ITEMS("search-items", "GET /items/search"),
+    GET_ALL_REQUESTS("get-all-requests", "GET /requests/all");
+
+    private final String name;
+    private final String endpoint;
+
+    Operation(String name, String endpoint) {
+        this.name = name;
+        this.endpoint = endpoint;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public static Operation fromName(String name) {
+        return Arrays.stream(values())
+                .filter(operation -> operation.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Неизвестная операция: " + name));
+    }
+}
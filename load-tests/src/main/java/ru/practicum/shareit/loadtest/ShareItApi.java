@@ -0,0 +1,75 @@
+package ru.practicum.shareit.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+public class ShareItApi {
+    private static final String SHARER_USER_ID = "X-Sharer-User-Id";
+    private static final Duration TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient client;
+    private final ObjectMapper objectMapper;
+    private final String baseUrl;
+
+    public ShareItApi(HttpClient client, ObjectMapper objectMapper, int port) {
+        this.client = client;
+        this.objectMapper = objectMapper;
+        this.baseUrl = "http://localhost:" + port;
+    }
+
+    public int get(String path, long userId) throws IOException, InterruptedException {
+        return send(request(path, userId).GET().build()).statusCode();
+    }
+
+    public int patch(String path, long userId) throws IOException, InterruptedException {
+        return send(request(path, userId).method("PATCH", HttpRequest.BodyPublishers.noBody()).build())
+                .statusCode();
+    }
+
+    public HttpResponse<byte[]> post(String path, Long userId, Object body) throws IOException,
+            InterruptedException {
+        return send(request(path, userId)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofByteArray(objectMapper.writeValueAsBytes(body)))
+                .build());
+    }
+
+    public long create(String path, Long userId, Object body) throws IOException, InterruptedException {
+        HttpResponse<byte[]> response = post(path, userId, body);
+
+        if (!isSuccess(response.statusCode())) {
+            throw new IllegalStateException("POST " + path + " вернул " + response.statusCode() + ": "
+                    + new String(response.body()));
+        }
+
+        return readId(response.body());
+    }
+
+    public long readId(byte[] body) throws IOException {
+        return objectMapper.readTree(body).get("id").asLong();
+    }
+
+    public static boolean isSuccess(int status) {
+        return status >= 200 && status < 300;
+    }
+
+    private HttpRequest.Builder request(String path, Long userId) {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(TIMEOUT);
+
+        if (userId != null) {
+            builder.header(SHARER_USER_ID, String.valueOf(userId));
+        }
+
+        return builder;
+    }
+
+    private HttpResponse<byte[]> send(HttpRequest request) throws IOException, InterruptedException {
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+}
@@ -1,13 +1,19 @@
 package ru.practicum.shareit.booking.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.dto.RequestBookingState;
 import ru.practicum.shareit.booking.service.BookingService;
 
+import javax.servlet.http.HttpServletResponse;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
@@ -18,6 +24,7 @@ import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
 @Slf4j
 public class BookingController {
     private final BookingService bookingService;
+    private final ObjectMapper objectMapper;
 
     @GetMapping("/{bookingId}")
     public BookingResponseDto getById(@PathVariable Long bookingId,
@@ -31,11 +38,15 @@ public class BookingController {
     public List<BookingResponseDto> getAllByState(@RequestParam(defaultValue = "ALL") String state,
                                                   @RequestParam(defaultValue = "0") int from,
                                                   @RequestParam(defaultValue = "20") int size,
+                                                  @RequestParam(required = false) String after,
                                                   @RequestHeader(SHARER_USER_ID) Long userId) {
 
         RequestBookingState requestBookingState = getStateParam(state);
 
         log.info("Запрос списка бронирований от пользователя ID: {}", userId);
+        if (after != null) {
+            return bookingService.getAllByStateAfter(requestBookingState, userId, BookingCursor.parse(after), size);
+        }
         return bookingService.getAllByState(requestBookingState, userId, from, size);
     }
 
@@ -43,14 +54,36 @@ public class BookingController {
     public List<BookingResponseDto> getAllByStateForOwner(@RequestParam(defaultValue = "ALL") String state,
                                                           @RequestParam(defaultValue = "0") int from,
                                                           @RequestParam(defaultValue = "20") int size,
+                                                          @RequestParam(required = false) String after,
                                                           @RequestHeader(SHARER_USER_ID) Long userId) {
 
         RequestBookingState requestBookingState = getStateParam(state);
 
         log.info("Запрос списка бронирований от владельца ID: {}", userId);
+        if (after != null) {
+            return bookingService.getAllByStateForOwnerAfter(requestBookingState, userId,
+                    BookingCursor.parse(after), size);
+        }
         return bookingService.getAllByStateForOwner(requestBookingState, userId, from, size);
     }
 
+    @GetMapping("/export")
+    public void exportAll(@RequestHeader(SHARER_USER_ID) Long userId,
+                          HttpServletResponse response) throws IOException {
+
+        log.info("Запрос на выгрузку истории бронирований пользователя ID: {}", userId);
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        try {
+            bookingService.exportAllByBooker(userId, booking -> writeRow(writer, booking));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
     @PostMapping
     public BookingResponseDto addBooking(@RequestHeader(SHARER_USER_ID) Long userId,
                                          @RequestBody BookingRequestDto bookingRequestDto) {
@@ -68,6 +101,15 @@ public class BookingController {
         return bookingService.approve(bookingId, approved, userId);
     }
 
+    private void writeRow(Writer writer, BookingResponseDto booking) {
+        try {
+            writer.write(objectMapper.writeValueAsString(booking));
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
     private RequestBookingState getStateParam(String state) {
 
         return RequestBookingState.valueOf(state.toUpperCase());
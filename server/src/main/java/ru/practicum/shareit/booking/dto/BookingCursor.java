@@ -0,0 +1,29 @@
+package ru.practicum.shareit.booking.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import ru.practicum.shareit.exception.BadRequestException;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+
+@Data
+@AllArgsConstructor
+public class BookingCursor {
+    private LocalDateTime start;
+    private Long id;
+
+    public static BookingCursor parse(String token) {
+        int separator = token.lastIndexOf(',');
+        if (separator < 0) {
+            throw new BadRequestException("Некорректный курсор: " + token);
+        }
+
+        try {
+            return new BookingCursor(LocalDateTime.parse(token.substring(0, separator).trim()),
+                    Long.valueOf(token.substring(separator + 1).trim()));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new BadRequestException("Некорректный курсор: " + token);
+        }
+    }
+}
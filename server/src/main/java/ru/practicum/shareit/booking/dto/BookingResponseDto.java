@@ -10,6 +10,8 @@ import java.time.LocalDateTime;
 
 @Data
 @Builder
+@NoArgsConstructor
+@AllArgsConstructor
 public class BookingResponseDto {
     private Long id;
     private LocalDateTime start;
@@ -18,6 +20,14 @@ public class BookingResponseDto {
     private BookingResponseUserDto booker;
     private BookingResponseItemDto item;
 
+    public BookingResponseDto(Long id, LocalDateTime start, LocalDateTime end, BookingStatus status, Long bookerId,
+                              Long itemId, String itemName) {
+        this(id, start, end, status, new BookingResponseUserDto(bookerId), BookingResponseItemDto.builder()
+                .id(itemId)
+                .name(itemName)
+                .build());
+    }
+
     @Data
     @Builder
     @NoArgsConstructor
@@ -1,10 +1,12 @@
 package ru.practicum.shareit.booking.service;
 
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.dto.RequestBookingState;
 
 import java.util.List;
+import java.util.function.Consumer;
 
 public interface BookingService {
     BookingResponseDto addBooking(BookingRequestDto bookingRequestDto, Long userId);
@@ -16,5 +18,13 @@ public interface BookingService {
     List<BookingResponseDto> getAllByStateForOwner(RequestBookingState requestBookingState,
             Long userId, int from, int size);
 
+    List<BookingResponseDto> getAllByStateAfter(RequestBookingState requestBookingState, Long userId,
+            BookingCursor after, int size);
+
+    List<BookingResponseDto> getAllByStateForOwnerAfter(RequestBookingState requestBookingState, Long userId,
+            BookingCursor after, int size);
+
+    void exportAllByBooker(Long userId, Consumer<BookingResponseDto> action);
+
     BookingResponseDto approve(Long bookingId, boolean approved, Long userId);
 }
\ No newline at end of file
@@ -1,11 +1,13 @@
 package ru.practicum.shareit.booking.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.booking.mapper.BookingMapper;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.dto.RequestBookingState;
@@ -13,15 +15,19 @@ import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.storage.BookingRepository;
 import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.InvalidDataException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemViewCache;
 import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.Iterator;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
@@ -29,6 +35,7 @@ public class BookingServiceImpl implements BookingService {
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final ItemRepository itemRepository;
+    private final ItemViewCache itemViewCache;
 
     @Override
     @Transactional
@@ -36,11 +43,9 @@ public class BookingServiceImpl implements BookingService {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Бронь не найдена"));
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
-
         if (!(booking.getUser().getId().equals(userId)
                 || booking.getItem().getOwner().getId().equals(userId))) {
+            checkUserExists(userId);
             throw new NotFoundException("Бронь для пользователя: " + userId + "не найдена");
         }
 
@@ -52,51 +57,33 @@ public class BookingServiceImpl implements BookingService {
     public List<BookingResponseDto> getAllByState(RequestBookingState requestBookingState,
             Long userId, int from, int size) {
 
-        LocalDateTime now = LocalDateTime.now();
+        Pageable pageable = PageRequest.of(from / size, size);
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+        List<BookingResponseDto> bookings = bookingRepository.findPageByBookerId(userId, requestBookingState,
+                LocalDateTime.now(), null, pageable);
 
-        Pageable pageable = PageRequest.of(from / size, size);
+        if (bookings.isEmpty()) {
+            checkUserExists(userId);
+        }
 
-        switch (requestBookingState) {
-            case ALL:
-                return bookingRepository.findAllByUserIdOrderByStartDesc(userId, pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            case PAST:
-                return bookingRepository.findAllByUserIdAndEndBeforeOrderByStartDesc(userId, now,
-                                pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            case FUTURE:
-                return bookingRepository.findAllByUserIdAndStartAfterOrderByStartDesc(userId, now,
-                                pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            case CURRENT:
-                return bookingRepository.findAllByUserIdAndStartBeforeAndEndAfterOrderByStartDesc(userId,
-                                now, now, pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            case WAITING:
-                return bookingRepository.findAllByUserIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING,
-                                pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            case REJECTED:
-                return bookingRepository.findAllByUserIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED,
-                                pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            default:
-                throw new BadRequestException("Не поддерживаемый статус в запросе");
+        return bookings;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void exportAllByBooker(Long userId, Consumer<BookingResponseDto> action) {
+        long exported = 0;
+
+        try (Stream<BookingResponseDto> bookings = bookingRepository.streamAllByBookerId(userId)) {
+            Iterator<BookingResponseDto> iterator = bookings.iterator();
+            while (iterator.hasNext()) {
+                action.accept(iterator.next());
+                exported++;
+            }
+        }
+
+        if (exported == 0) {
+            checkUserExists(userId);
         }
     }
 
@@ -104,52 +91,47 @@ public class BookingServiceImpl implements BookingService {
     @Transactional(readOnly = true)
     public List<BookingResponseDto> getAllByStateForOwner(RequestBookingState requestBookingState, Long userId,
                                                           int from, int size) {
-        LocalDateTime now = LocalDateTime.now();
-
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
 
         Pageable pageable = PageRequest.of(from, size);
 
-        switch (requestBookingState) {
-            case ALL:
-                return bookingRepository.findAllByItemOwnerIdOrderByStartDesc(userId, pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            case PAST:
-                return bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(userId, now,
-                                pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            case FUTURE:
-                return bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(userId, now,
-                                pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            case CURRENT:
-                return bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(userId,
-                                now, now, pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            case WAITING:
-                return bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(userId, BookingStatus.WAITING,
-                                pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            case REJECTED:
-                return bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(userId, BookingStatus.REJECTED,
-                                pageable)
-                        .stream()
-                        .map(BookingMapper::toDto)
-                        .collect(Collectors.toList());
-            default:
-                throw new BadRequestException("Не поддерживаемый статус в запросе");
+        List<BookingResponseDto> bookings = bookingRepository.findPageByItemOwnerId(userId, requestBookingState,
+                LocalDateTime.now(), null, pageable);
+
+        if (bookings.isEmpty()) {
+            checkUserExists(userId);
+        }
+
+        return bookings;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingResponseDto> getAllByStateAfter(RequestBookingState requestBookingState, Long userId,
+                                                       BookingCursor after, int size) {
+
+        List<BookingResponseDto> bookings = bookingRepository.findPageByBookerId(userId, requestBookingState,
+                LocalDateTime.now(), after, PageRequest.of(0, size));
+
+        if (bookings.isEmpty()) {
+            checkUserExists(userId);
         }
+
+        return bookings;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<BookingResponseDto> getAllByStateForOwnerAfter(RequestBookingState requestBookingState, Long userId,
+                                                               BookingCursor after, int size) {
+
+        List<BookingResponseDto> bookings = bookingRepository.findPageByItemOwnerId(userId, requestBookingState,
+                LocalDateTime.now(), after, PageRequest.of(0, size));
+
+        if (bookings.isEmpty()) {
+            checkUserExists(userId);
+        }
+
+        return bookings;
     }
 
     @Override
@@ -170,12 +152,17 @@ public class BookingServiceImpl implements BookingService {
             throw new NotFoundException("Владелец не может бронировать свою вещь");
         }
 
+        checkOverlapping(item.getId(), bookingRequestDto.getStart(), bookingRequestDto.getEnd());
+
         Booking booking = BookingMapper.fromDto(bookingRequestDto);
         booking.setUser(user);
         booking.setItem(item);
         booking.setStatus(BookingStatus.WAITING);
 
-        return BookingMapper.toDto(bookingRepository.save(booking));
+        BookingResponseDto savedBooking = BookingMapper.toDto(bookingRepository.save(booking));
+        itemViewCache.evict(item.getId());
+
+        return savedBooking;
     }
 
     @Override
@@ -185,19 +172,47 @@ public class BookingServiceImpl implements BookingService {
         Booking booking = bookingRepository.findById(bookingId)
                 .orElseThrow(() -> new NotFoundException("Бронь не найдена"));
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
-
         if (!booking.getItem().getOwner().getId().equals(userId)) {
+            checkUserExists(userId);
             throw new NotFoundException("Подтверждение доступно только для владельца вещи");
         }
 
         if (booking.getStatus() != BookingStatus.WAITING) {
-            throw new BadRequestException("Вещь не ожидает подтверждения");
+            throw new InvalidDataException("Бронь уже подтверждена или отклонена");
+        }
+
+        if (approved) {
+            itemRepository.findByIdForUpdate(booking.getItem().getId());
+
+            checkOverlapping(booking.getItem().getId(), booking.getStart(), booking.getEnd());
+        }
+
+        BookingStatus status = approved ? BookingStatus.APPROVED : BookingStatus.REJECTED;
+
+        try {
+            if (bookingRepository.updateStatusIfWaiting(bookingId, status) == 0) {
+                throw new InvalidDataException("Бронь уже подтверждена или отклонена");
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw new InvalidDataException("Вещь уже забронирована на это время");
         }
 
-        booking.setStatus(approved ? BookingStatus.APPROVED : BookingStatus.REJECTED);
+        booking.setStatus(status);
+        itemViewCache.evict(booking.getItem().getId());
+
+        return BookingMapper.toDto(booking);
+    }
+
+    private void checkUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("Пользователь не найден");
+        }
+    }
 
-        return BookingMapper.toDto(bookingRepository.save(booking));
+    private void checkOverlapping(Long itemId, LocalDateTime start, LocalDateTime end) {
+        if (bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(itemId, BookingStatus.APPROVED,
+                end, start)) {
+            throw new InvalidDataException("Вещь уже забронирована на это время");
+        }
     }
 }
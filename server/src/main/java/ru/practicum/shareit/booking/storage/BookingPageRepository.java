@@ -0,0 +1,17 @@
+package ru.practicum.shareit.booking.storage;
+
+import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.RequestBookingState;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface BookingPageRepository {
+    List<BookingResponseDto> findPageByBookerId(Long bookerId, RequestBookingState state, LocalDateTime now,
+            BookingCursor after, Pageable pageable);
+
+    List<BookingResponseDto> findPageByItemOwnerId(Long ownerId, RequestBookingState state, LocalDateTime now,
+            BookingCursor after, Pageable pageable);
+}
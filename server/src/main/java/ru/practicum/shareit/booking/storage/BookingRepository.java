@@ -1,43 +1,43 @@
 package ru.practicum.shareit.booking.storage;
 
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 
+import javax.persistence.QueryHint;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
-public interface BookingRepository extends JpaRepository<Booking, Long> {
-    List<Booking> findAllByUserIdOrderByStartDesc(Long userId, Pageable pageable);
+import static org.hibernate.jpa.QueryHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.QueryHints.HINT_READONLY;
 
-    List<Booking> findAllByUserIdAndEndBeforeOrderByStartDesc(Long userId,
-            LocalDateTime endDateTime, Pageable pageable);
+public interface BookingRepository extends JpaRepository<Booking, Long>, BookingPageRepository {
+    @Override
+    @EntityGraph(attributePaths = "item")
+    Optional<Booking> findById(Long id);
 
-    List<Booking> findAllByUserIdAndStartAfterOrderByStartDesc(Long userId,
-            LocalDateTime startDateTime, Pageable pageable);
+    Optional<Booking> findFirstByItemIdAndStartBeforeOrderByEndDesc(Long itemId, LocalDateTime now);
 
-    List<Booking> findAllByUserIdAndStartBeforeAndEndAfterOrderByStartDesc(Long userId,
-            LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable);
+    Optional<Booking> findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(Long itemId, BookingStatus status,
+            LocalDateTime now);
 
-    List<Booking> findAllByUserIdAndStatusOrderByStartDesc(Long userId,
-            BookingStatus bookingStatus, Pageable pageable);
+    @Query("select min(b.start) from Booking b where b.item.id = ?1 and b.start > ?2")
+    Optional<LocalDateTime> findNextStartByItemId(Long itemId, LocalDateTime now);
 
-    List<Booking> findAllByItemOwnerIdOrderByStartDesc(Long ownerId, Pageable pageable);
+    boolean existsByItemIdAndStatusAndStartBeforeAndEndAfter(Long itemId, BookingStatus status, LocalDateTime end,
+            LocalDateTime start);
 
-    List<Booking> findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(Long ownerId,
-            LocalDateTime endDateTime, Pageable pageable);
-
-    List<Booking> findAllByItemOwnerIdAndStartAfterOrderByStartDesc(Long ownerId,
-            LocalDateTime startDateTime, Pageable pageable);
-
-    List<Booking> findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(Long ownerId,
-            LocalDateTime startDateTime, LocalDateTime endDateTime, Pageable pageable);
-
-    List<Booking> findAllByItemOwnerIdAndStatusOrderByStartDesc(Long ownerId, BookingStatus status, Pageable pageable);
-
-    List<Booking> findAllByItemId(Long itemId);
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Booking b set b.status = ?2, b.version = b.version + 1 where b.id = ?1 " +
+            "and b.status = ru.practicum.shareit.booking.model.BookingStatus.WAITING")
+    int updateStatusIfWaiting(Long bookingId, BookingStatus status);
 
     @Query("select count(b) from Booking b where b.item.id = :itemId and b.user.id = :userId and b"
             + ".status = ru.practicum.shareit.booking.model.BookingStatus.APPROVED and b.end < "
@@ -45,12 +45,18 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
     Integer findCountAllApprovedByItemIdAndUserId(Long itemId, Long userId,
                                                   LocalDateTime currentTime);
 
-    @Query("select b from Booking as b where b.item.id in ?1 and b.status = 'APPROVED' and " +
-            "(b.start = (select min(bo.start) from Booking as bo where bo.start > current_timestamp) or " +
-            "b.end = (select max(bo.end) from Booking as bo where bo.end < current_timestamp or " +
-            "bo.end = current_timestamp or bo.start = current_timestamp )) " +
-            "order by b.start ")
-    List<Booking> findNearlyBookingByItemId(Long itemsId);
+    @Query("select b from Booking b where b.item.id in ?1 and b.start < ?2 and b.end = " +
+            "(select max(bo.end) from Booking bo where bo.item.id = b.item.id and bo.start < ?2)")
+    List<Booking> findLastBookingsByItemIdIn(List<Long> itemsId, LocalDateTime now);
+
+    @Query("select b from Booking b where b.item.id in ?1 and b.status = ?2 and b.start > ?3 and b.start = " +
+            "(select min(bo.start) from Booking bo where bo.item.id = b.item.id and bo.status = ?2 " +
+            "and bo.start > ?3)")
+    List<Booking> findNextBookingsByItemIdIn(List<Long> itemsId, BookingStatus status, LocalDateTime now);
 
-    List<Booking> findAllByItemIdIn(List<Long> itemsId);
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READONLY, value = "true")})
+    @Query("select new ru.practicum.shareit.booking.dto.BookingResponseDto(b.id, b.start, b.end, b.status, " +
+            "b.user.id, i.id, i.name) from Booking b join b.item i where b.user.id = ?1 " +
+            "order by b.start desc, b.id desc")
+    Stream<BookingResponseDto> streamAllByBookerId(Long bookerId);
 }
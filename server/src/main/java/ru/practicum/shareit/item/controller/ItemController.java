@@ -2,11 +2,19 @@ package ru.practicum.shareit.item.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import ru.practicum.shareit.item.comment.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.service.ItemImportService;
 import ru.practicum.shareit.item.service.ItemService;
 
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import static ru.practicum.shareit.util.RequestHeader.SHARER_USER_ID;
@@ -19,6 +27,8 @@ public class ItemController {
 
     private final ItemService itemService;
 
+    private final ItemImportService itemImportService;
+
     @DeleteMapping("/{itemId}")
     public void delete(@PathVariable Long itemId) {
         itemService.delete(itemId);
@@ -31,6 +41,14 @@ public class ItemController {
         return itemService.addItem(itemDto, userId);
     }
 
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ItemImportResultDto importItems(@RequestHeader(SHARER_USER_ID) Long userId,
+                                           InputStream rows) throws IOException {
+        log.info("Запрос на импорт вещей пользователем с id = {}", userId);
+        return itemImportService.importItems(new BufferedReader(new InputStreamReader(rows, StandardCharsets.UTF_8)),
+                userId);
+    }
+
     @PatchMapping("/{itemId}")
     public ItemDto updateItem(@PathVariable Long itemId,
                               @RequestHeader(SHARER_USER_ID) Long userId,
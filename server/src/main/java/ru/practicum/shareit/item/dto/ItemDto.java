@@ -9,7 +9,7 @@ import ru.practicum.shareit.item.comment.CommentDto;
 import java.util.List;
 
 @Data
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
 public class ItemDto {
@@ -22,9 +22,13 @@ public class ItemDto {
     private List<CommentDto> comments;
     private Long requestId;
 
+    public ItemDto(Long id, String name, String description, Boolean available, Long requestId) {
+        this(id, name, description, available, null, null, null, requestId);
+    }
+
 
     @Data
-    @Builder
+    @Builder(toBuilder = true)
     public static class ItemBooking {
         private Long id;
         private Long bookerId;
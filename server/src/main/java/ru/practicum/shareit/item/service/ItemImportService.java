@@ -0,0 +1,11 @@
+package ru.practicum.shareit.item.service;
+
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public interface ItemImportService {
+
+    ItemImportResultDto importItems(BufferedReader rows, Long userId) throws IOException;
+}
@@ -0,0 +1,186 @@
+package ru.practicum.shareit.item.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.storage.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.storage.UserRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class ItemImportServiceImpl implements ItemImportService {
+    private final ItemRepository itemRepository;
+    private final UserRepository userRepository;
+    private final ItemRequestRepository itemRequestRepository;
+    private final ObjectMapper objectMapper;
+    private final EntityManager entityManager;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public ItemImportServiceImpl(ItemRepository itemRepository,
+                                 UserRepository userRepository,
+                                 ItemRequestRepository itemRequestRepository,
+                                 ObjectMapper objectMapper,
+                                 EntityManager entityManager,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${shareit.items.import.batch-size:500}") int batchSize) {
+        this.itemRepository = itemRepository;
+        this.userRepository = userRepository;
+        this.itemRequestRepository = itemRequestRepository;
+        this.objectMapper = objectMapper;
+        this.entityManager = entityManager;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public ItemImportResultDto importItems(BufferedReader rows, Long userId) throws IOException {
+        User owner = userRepository.findById(userId)
+                .orElseThrow(() -> new NotFoundException("Пользователь не найден"));
+
+        ItemImportResultDto result = new ItemImportResultDto();
+        Map<Long, ItemDto> batch = new LinkedHashMap<>();
+
+        long rowNumber = 0;
+        String row;
+        while ((row = rows.readLine()) != null) {
+            if (row.isBlank()) {
+                continue;
+            }
+
+            rowNumber++;
+
+            ItemDto itemDto = parseRow(row, rowNumber, result);
+
+            if (itemDto != null) {
+                batch.put(rowNumber, itemDto);
+            }
+
+            if (batch.size() == batchSize) {
+                saveBatch(batch, owner, result);
+                batch.clear();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            saveBatch(batch, owner, result);
+        }
+
+        log.info("Импортировано вещей: {}, отклонено строк: {}", result.getImported(), result.getErrors().size());
+
+        return result;
+    }
+
+    private ItemDto parseRow(String row, long rowNumber, ItemImportResultDto result) {
+        try {
+            JsonNode node = objectMapper.readTree(row);
+
+            if (node.hasNonNull("error")) {
+                result.addError(rowNumber, node.get("error").asText());
+                return null;
+            }
+
+            ItemDto itemDto = objectMapper.treeToValue(node, ItemDto.class);
+
+            if (isBlank(itemDto.getName()) || isBlank(itemDto.getDescription()) || itemDto.getAvailable() == null) {
+                result.addError(rowNumber, "Не заполнены обязательные поля вещи");
+                return null;
+            }
+
+            return itemDto;
+        } catch (JsonProcessingException e) {
+            result.addError(rowNumber, "Некорректный JSON");
+            return null;
+        }
+    }
+
+    private void saveBatch(Map<Long, ItemDto> batch, User owner, ItemImportResultDto result) {
+        try {
+            List<Long> rejectedRows = new ArrayList<>();
+
+            int saved = transactionTemplate.execute(status -> {
+                entityManager.unwrap(Session.class).setCacheMode(CacheMode.IGNORE);
+
+                Map<Long, ItemRequest> requests = findRequests(batch.values());
+                List<Item> items = new ArrayList<>(batch.size());
+
+                batch.forEach((rowNumber, itemDto) -> {
+                    Item item = ItemMapper.fromDto(itemDto);
+                    item.setOwner(owner);
+
+                    if (itemDto.getRequestId() != null) {
+                        ItemRequest itemRequest = requests.get(itemDto.getRequestId());
+
+                        if (itemRequest == null) {
+                            rejectedRows.add(rowNumber);
+                            return;
+                        }
+
+                        item.setItemRequest(itemRequest);
+                    }
+
+                    items.add(item);
+                });
+
+                itemRepository.saveAllAndFlush(items);
+                entityManager.clear();
+
+                return items.size();
+            });
+
+            rejectedRows.forEach(rowNumber -> result.addError(rowNumber, "Запросов на данную вещь не найдено"));
+            result.setImported(result.getImported() + saved);
+        } catch (DataAccessException | PersistenceException e) {
+            if (batch.size() > 1) {
+                log.warn("Не удалось сохранить пакет из {} вещей, вещи сохраняются по одной: {}", batch.size(),
+                        e.getMessage());
+                batch.forEach((rowNumber, itemDto) -> saveBatch(Map.of(rowNumber, itemDto), owner, result));
+            } else {
+                log.warn("Не удалось сохранить вещь из строки {}: {}", batch.keySet(), e.getMessage());
+                batch.keySet().forEach(rowNumber -> result.addError(rowNumber, "Не удалось сохранить вещь"));
+            }
+        }
+    }
+
+    private Map<Long, ItemRequest> findRequests(Collection<ItemDto> items) {
+        Set<Long> requestIds = items.stream()
+                .map(ItemDto::getRequestId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+
+        if (requestIds.isEmpty()) {
+            return Map.of();
+        }
+
+        return itemRequestRepository.findAllById(requestIds).stream()
+                .collect(Collectors.toMap(ItemRequest::getId, Function.identity()));
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+}
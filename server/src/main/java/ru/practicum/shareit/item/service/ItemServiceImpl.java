@@ -28,6 +28,7 @@ import ru.practicum.shareit.user.storage.UserRepository;
 
 import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 
@@ -39,27 +40,48 @@ public class ItemServiceImpl implements ItemService {
     private final CommentRepository commentRepository;
     private final BookingRepository bookingRepository;
     private final ItemRequestRepository itemRequestRepository;
+    private final ItemViewCache itemViewCache;
 
     @Override
     @Transactional
     public void delete(Long itemId) {
         itemRepository.deleteById(itemId);
+        itemViewCache.evict(itemId);
     }
 
     @Override
     @Transactional(readOnly = true)
     public ItemDto getItem(Long itemId, Long userId) {
+        Optional<ItemDto> cachedItem = itemViewCache.get(itemId, userId);
+
+        if (cachedItem.isPresent()) {
+            return cachedItem.get();
+        }
+
+        long cacheGeneration = itemViewCache.generation(itemId);
+
         Item item = itemRepository.findById(itemId)
                 .orElseThrow(() -> new NotFoundException("Вещь не найдена"));
 
         ItemDto itemDto = ItemMapper.toDto(item);
 
+        addComments(itemDto);
+
+        itemViewCache.putItemView(itemDto, item.getOwner().getId(), cacheGeneration);
+
         if ((item.getOwner().getId().equals(userId))) {
+            LocalDateTime now = LocalDateTime.now();
 
-            addBookingInfo(itemDto);
-        }
+            ItemDto ownerItemDto = ItemMapper.toDto(item);
+            ownerItemDto.setComments(itemDto.getComments());
 
-        addComments(itemDto);
+            addBookingInfo(ownerItemDto, now);
+
+            itemViewCache.putOwnerView(ownerItemDto, bookingRepository.findNextStartByItemId(itemId, now)
+                    .orElse(null), cacheGeneration);
+
+            return ownerItemDto;
+        }
 
         return itemDto;
     }
@@ -70,28 +92,29 @@ public class ItemServiceImpl implements ItemService {
 
         Pageable pageable = PageRequest.of(from / size, size, Sort.by(Sort.Direction.ASC, "id"));
 
-        List<Item> items = itemRepository.findAllByOwnerId(userId, pageable);
+        List<ItemDto> items = itemRepository.findAllByOwnerId(userId, pageable);
 
-        List<Long> itemsId = items.stream().map(Item::getId).collect(Collectors.toList());
+        List<Long> itemsId = items.stream().map(ItemDto::getId).collect(Collectors.toList());
 
-        List<Booking> itemBookings = bookingRepository.findAllByItemIdIn(itemsId);
-
-        List<Comment> itemComments = commentRepository.findAllByItemIdIn(itemsId);
+        LocalDateTime now = LocalDateTime.now();
 
-        List<ItemDto> fullItemDto = new ArrayList<>();
+        Map<Long, Booking> lastBookings = mapByItemId(bookingRepository.findLastBookingsByItemIdIn(itemsId, now));
 
-        for (Item item : items) {
+        Map<Long, Booking> nextBookings = mapByItemId(bookingRepository.findNextBookingsByItemIdIn(itemsId,
+                BookingStatus.APPROVED, now));
 
-            ItemDto itemDto = ItemMapper.toDto(item);
+        Map<Long, List<Comment>> itemComments = commentRepository.findAllByItemIdIn(itemsId)
+                .stream()
+                .collect(Collectors.groupingBy(comment -> comment.getItem().getId()));
 
-            addBookings(itemDto, itemBookings);
+        for (ItemDto itemDto : items) {
 
-            addItemComments(itemDto, itemComments);
+            addBookings(itemDto, lastBookings.get(itemDto.getId()), nextBookings.get(itemDto.getId()));
 
-            fullItemDto.add(itemDto);
+            addItemComments(itemDto, itemComments.getOrDefault(itemDto.getId(), List.of()));
         }
 
-        return fullItemDto;
+        return items;
     }
 
     @Override
@@ -128,7 +151,9 @@ public class ItemServiceImpl implements ItemService {
 
 
         try {
-            return ItemMapper.toDto(itemRepository.save(item));
+            ItemDto updatedItem = ItemMapper.toDto(itemRepository.save(item));
+            itemViewCache.evict(itemId);
+            return updatedItem;
         } catch (DataIntegrityViolationException e) {
             throw new InvalidDataException("Ошибка целостности данных");
         }
@@ -143,9 +168,7 @@ public class ItemServiceImpl implements ItemService {
         if (text.isBlank()) {
             return List.of();
         } else {
-            return itemRepository.findBySearchText(text, pageable).stream()
-                    .map(ItemMapper::toDto)
-                    .collect(Collectors.toList());
+            return itemRepository.search(text, pageable);
         }
     }
 
@@ -168,77 +191,47 @@ public class ItemServiceImpl implements ItemService {
         comment.setItem(item);
         comment.setCreated(LocalDateTime.now());
 
-        return CommentMapper.toDto(commentRepository.save(comment));
-    }
-
-    private ItemDto addBookings(ItemDto itemDto, List<Booking> bookings) {
+        CommentDto savedComment = CommentMapper.toDto(commentRepository.save(comment));
+        itemViewCache.evict(itemId);
 
-        List<Booking> bookingsByItem = bookings
-                .stream()
-                .filter(booking -> booking.getItem().getId().equals(itemDto.getId()))
-                .collect(Collectors.toList());
-
-        LocalDateTime now = LocalDateTime.now();
-
-        Booking nextBooking = bookingsByItem.stream()
-                .filter(booking -> booking.getStart().isAfter(now))
-                .filter(booking -> booking.getStatus().equals(BookingStatus.APPROVED))
-                .min(Comparator.comparing(Booking::getStart))
-                .orElse(null);
-
-        Booking lastBooking = bookingsByItem.stream()
-                .filter(booking -> booking.getStart().isBefore(now))
-                .max(Comparator.comparing(Booking::getEnd))
-                .orElse(null);
+        return savedComment;
+    }
 
-        itemDto.setNextBooking(nextBooking != null ? ItemDto.ItemBooking.builder()
-                .id(nextBooking.getId())
-                .bookerId(nextBooking.getUser().getId())
-                .build() : null);
+    private ItemDto addBookings(ItemDto itemDto, Booking lastBooking, Booking nextBooking) {
 
-        itemDto.setLastBooking(lastBooking != null ? ItemDto.ItemBooking.builder()
-                .id(lastBooking.getId())
-                .bookerId(lastBooking.getUser().getId())
-                .build() : null);
+        itemDto.setNextBooking(toItemBooking(nextBooking));
+        itemDto.setLastBooking(toItemBooking(lastBooking));
 
         return itemDto;
     }
 
-    private ItemDto addBookingInfo(ItemDto itemDto) {
-        List<Booking> bookings = bookingRepository.findAllByItemId(itemDto.getId());
-
-        LocalDateTime now = LocalDateTime.now();
-
-        Booking nextBooking = bookings.stream()
-                .filter(booking -> booking.getStart().isAfter(now))
-                .filter(booking -> booking.getStatus().equals(BookingStatus.APPROVED))
-                .min(Comparator.comparing(Booking::getStart))
-                .orElse(null);
-        Booking lastBooking = bookings.stream()
-                .filter(booking -> booking.getStart().isBefore(now))
-                .max(Comparator.comparing(Booking::getEnd))
+    private ItemDto addBookingInfo(ItemDto itemDto, LocalDateTime now) {
+        Booking nextBooking = bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(
+                itemDto.getId(), BookingStatus.APPROVED, now).orElse(null);
+        Booking lastBooking = bookingRepository.findFirstByItemIdAndStartBeforeOrderByEndDesc(itemDto.getId(), now)
                 .orElse(null);
 
-        itemDto.setNextBooking(nextBooking != null ? ItemDto.ItemBooking.builder()
-                .id(nextBooking.getId())
-                .bookerId(nextBooking.getUser().getId())
-                .build() : null);
-        itemDto.setLastBooking(lastBooking != null ? ItemDto.ItemBooking.builder()
-                .id(lastBooking.getId())
-                .bookerId(lastBooking.getUser().getId())
-                .build() : null);
+        return addBookings(itemDto, lastBooking, nextBooking);
+    }
 
-        return itemDto;
+    private ItemDto.ItemBooking toItemBooking(Booking booking) {
+        return booking != null ? ItemDto.ItemBooking.builder()
+                .id(booking.getId())
+                .bookerId(booking.getUser().getId())
+                .build() : null;
+    }
+
+    private Map<Long, Booking> mapByItemId(List<Booking> bookings) {
+        return bookings.stream()
+                .collect(Collectors.toMap(booking -> booking.getItem().getId(), Function.identity(),
+                        (first, second) -> first.getId() < second.getId() ? first : second));
     }
 
     private ItemDto addItemComments(ItemDto itemDto, List<Comment> comments) {
 
-        List<CommentDto> itemComments = comments.stream()
-                .filter(comment -> comment.getItem().getId().equals(itemDto.getId()))
+        itemDto.setComments(comments.stream()
                 .map(CommentMapper::toDto)
-                .collect(Collectors.toList());
-
-        itemDto.setComments(itemComments);
+                .collect(Collectors.toList()));
 
         return itemDto;
     }
@@ -0,0 +1,140 @@
+package ru.practicum.shareit.item.service;
+
+import lombok.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.util.stream.Collectors.toList;
+
+@Component
+public class ItemViewCache {
+    public static final String CACHE_NAME = "itemViews";
+
+    private static final int GENERATION_STRIPES = 1024;
+
+    private final Cache cache;
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    public ItemViewCache(CacheManager cacheManager) {
+        this.cache = Objects.requireNonNull(cacheManager.getCache(CACHE_NAME),
+                "Кэш " + CACHE_NAME + " не настроен");
+    }
+
+    public Optional<ItemDto> get(Long itemId, Long userId) {
+        ItemView itemView = cache.get(itemKey(itemId), ItemView.class);
+
+        if (itemView == null) {
+            return Optional.empty();
+        }
+
+        if (!itemView.getOwnerId().equals(userId)) {
+            return Optional.of(copy(itemView.getItem()));
+        }
+
+        OwnerItemView ownerView = cache.get(ownerKey(itemId), OwnerItemView.class);
+
+        if (ownerView == null || ownerView.isExpired(LocalDateTime.now())) {
+            return Optional.empty();
+        }
+
+        return Optional.of(copy(ownerView.getItem()));
+    }
+
+    public long generation(Long itemId) {
+        return generations.get(stripe(itemId));
+    }
+
+    public void putItemView(ItemDto itemDto, Long ownerId, long generation) {
+        put(itemDto.getId(), itemKey(itemDto.getId()), new ItemView(copy(itemDto), ownerId), generation);
+    }
+
+    public void putOwnerView(ItemDto itemDto, LocalDateTime validUntil, long generation) {
+        put(itemDto.getId(), ownerKey(itemDto.getId()), new OwnerItemView(copy(itemDto), validUntil), generation);
+    }
+
+    public void evict(Long itemId) {
+        afterCommit(() -> {
+            generations.incrementAndGet(stripe(itemId));
+            cache.evict(itemKey(itemId));
+            cache.evict(ownerKey(itemId));
+        });
+    }
+
+    private void put(Long itemId, String key, Object view, long generation) {
+        afterCommit(() -> {
+            if (generation(itemId) != generation) {
+                return;
+            }
+
+            cache.put(key, view);
+
+            if (generation(itemId) != generation) {
+                cache.evict(key);
+            }
+        });
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static int stripe(Long itemId) {
+        return Long.hashCode(itemId) & (GENERATION_STRIPES - 1);
+    }
+
+    private static String itemKey(Long itemId) {
+        return "item:" + itemId;
+    }
+
+    private static String ownerKey(Long itemId) {
+        return "owner:" + itemId;
+    }
+
+    private static ItemDto copy(ItemDto itemDto) {
+        return itemDto.toBuilder()
+                .nextBooking(copy(itemDto.getNextBooking()))
+                .lastBooking(copy(itemDto.getLastBooking()))
+                .comments(itemDto.getComments() == null ? null : itemDto.getComments().stream()
+                        .map(comment -> comment.toBuilder().build())
+                        .collect(toList()))
+                .build();
+    }
+
+    private static ItemDto.ItemBooking copy(ItemDto.ItemBooking itemBooking) {
+        return itemBooking == null ? null : itemBooking.toBuilder().build();
+    }
+
+    @Value
+    private static class ItemView {
+        ItemDto item;
+        Long ownerId;
+    }
+
+    @Value
+    private static class OwnerItemView {
+        ItemDto item;
+        LocalDateTime validUntil;
+
+        boolean isExpired(LocalDateTime now) {
+            return validUntil != null && !now.isBefore(validUntil);
+        }
+    }
+}
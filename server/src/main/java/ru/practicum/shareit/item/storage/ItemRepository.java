@@ -2,20 +2,27 @@ package ru.practicum.shareit.item.storage;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.item.dto.ItemDto;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.dto.ItemRequestGetResponseDto;
 
+import javax.persistence.LockModeType;
 import java.util.List;
+import java.util.Optional;
 
-public interface ItemRepository extends JpaRepository<Item, Long> {
+public interface ItemRepository extends JpaRepository<Item, Long>, ItemSearchRepository {
 
-    List<Item> findAllByOwnerId(Long ownerId, Pageable pageable);
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select i from Item i where i.id = ?1")
+    Optional<Item> findByIdForUpdate(Long itemId);
 
-    @Query("select i from Item i " +
-            "where upper(i.name) like upper(concat('%', ?1, '%')) " +
-            "or upper(i.description) like upper(concat('%', ?1, '%')) " +
-            "and i.available = true ")
-    List<Item> findBySearchText(String searchText, Pageable pageable);
+    @Query("select new ru.practicum.shareit.item.dto.ItemDto(i.id, i.name, i.description, i.available, " +
+            "i.itemRequest.id) from Item i where i.owner.id = ?1")
+    List<ItemDto> findAllByOwnerId(Long ownerId, Pageable pageable);
 
-    List<Item> findAllByItemRequestIdIn(List<Long> requestsId);
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestGetResponseDto$RequestedItem(i.id, i.name, " +
+            "i.description, i.available, i.itemRequest.id) from Item i where i.itemRequest.id in ?1")
+    List<ItemRequestGetResponseDto.RequestedItem> findAllByItemRequestIdIn(List<Long> requestsId);
 }
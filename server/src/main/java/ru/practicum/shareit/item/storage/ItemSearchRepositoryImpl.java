@@ -0,0 +1,82 @@
+package ru.practicum.shareit.item.storage;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.jdbc.DatabaseDriver;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceContext;
+import javax.persistence.Query;
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.List;
+import java.util.stream.Collectors;
+
+public class ItemSearchRepositoryImpl implements ItemSearchRepository {
+    private static final String FULL_TEXT_QUERY = "select i.item_id, i.item_name, i.description, i.available, " +
+            "i.request_id from items i, plainto_tsquery('russian', :text) query " +
+            "where i.available = true " +
+            "and to_tsvector('russian', i.item_name || ' ' || i.description) @@ query " +
+            "order by ts_rank(to_tsvector('russian', i.item_name || ' ' || i.description), query) desc, i.item_id";
+
+    private static final String CONTAINS_QUERY = "select new ru.practicum.shareit.item.dto.ItemDto(i.id, i.name, " +
+            "i.description, i.available, i.itemRequest.id) from Item i " +
+            "where i.available = true " +
+            "and (upper(i.name) like upper(concat('%', :text, '%')) " +
+            "or upper(i.description) like upper(concat('%', :text, '%'))) " +
+            "order by i.id";
+
+    private final DataSource dataSource;
+
+    private final SearchMode searchMode;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile DatabaseDriver databaseDriver;
+
+    public ItemSearchRepositoryImpl(DataSource dataSource,
+                                    @Value("${shareit.search.mode:substring}") SearchMode searchMode) {
+        this.dataSource = dataSource;
+        this.searchMode = searchMode;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ItemDto> search(String text, Pageable pageable) {
+        if (searchMode == SearchMode.FULLTEXT && getDatabaseDriver() == DatabaseDriver.POSTGRESQL) {
+            List<Object[]> rows = page(entityManager.createNativeQuery(FULL_TEXT_QUERY), text, pageable)
+                    .getResultList();
+
+            return rows.stream()
+                    .map(row -> new ItemDto(((Number) row[0]).longValue(), (String) row[1], (String) row[2],
+                            (Boolean) row[3], row[4] != null ? ((Number) row[4]).longValue() : null))
+                    .collect(Collectors.toList());
+        }
+
+        return page(entityManager.createQuery(CONTAINS_QUERY, ItemDto.class), text, pageable)
+                .getResultList();
+    }
+
+    private <T extends Query> T page(T query, String text, Pageable pageable) {
+        query.setParameter("text", text)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize());
+        return query;
+    }
+
+    private DatabaseDriver getDatabaseDriver() {
+        if (databaseDriver == null) {
+            try {
+                databaseDriver = DatabaseDriver.fromProductName(JdbcUtils.extractDatabaseMetaData(dataSource,
+                        DatabaseMetaData::getDatabaseProductName));
+            } catch (MetaDataAccessException e) {
+                databaseDriver = DatabaseDriver.UNKNOWN;
+            }
+        }
+        return databaseDriver;
+    }
+}
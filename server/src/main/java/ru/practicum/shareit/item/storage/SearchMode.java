@@ -0,0 +1,6 @@
+package ru.practicum.shareit.item.storage;
+
+public enum SearchMode {
+    SUBSTRING,
+    FULLTEXT
+}
@@ -1,5 +1,6 @@
 package ru.practicum.shareit.request.dto;
 
+import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 
@@ -8,14 +9,20 @@ import java.util.List;
 
 @Data
 @Builder
+@AllArgsConstructor
 public class ItemRequestGetResponseDto {
     private Long id;
     private String description;
     private LocalDateTime created;
     private List<RequestedItem> items;
 
+    public ItemRequestGetResponseDto(Long id, String description, LocalDateTime created) {
+        this(id, description, created, null);
+    }
+
     @Data
     @Builder
+    @AllArgsConstructor
     public static class RequestedItem {
         private Long id;
         private String name;
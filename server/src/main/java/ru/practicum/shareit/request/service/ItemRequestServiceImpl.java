@@ -6,7 +6,6 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.practicum.shareit.exception.NotFoundException;
-import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
@@ -36,14 +35,15 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Transactional(readOnly = true)
     public List<ItemRequestGetResponseDto> getAllByRequesterId(Long userId, int from, int size) {
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Некорректный идентификатор: " + userId));
-
         Pageable pageable = PageRequest.of(from, size);
 
-        List<ItemRequest> requests = itemRequestRepository
+        List<ItemRequestGetResponseDto> requests = itemRequestRepository
                 .findAllByRequesterIdOrderByCreatedDesc(userId, pageable);
 
+        if (requests.isEmpty()) {
+            checkUserExists(userId);
+        }
+
         return getResponseItemRequestList(requests);
     }
 
@@ -53,7 +53,7 @@ public class ItemRequestServiceImpl implements ItemRequestService {
 
         Pageable pageable = PageRequest.of(from, size);
 
-        List<ItemRequest> requests = itemRequestRepository
+        List<ItemRequestGetResponseDto> requests = itemRequestRepository
                 .findAllByRequesterIdNotOrderByCreatedDesc(userId, pageable);
 
         return getResponseItemRequestList(requests);
@@ -63,13 +63,12 @@ public class ItemRequestServiceImpl implements ItemRequestService {
     @Transactional(readOnly = true)
     public ItemRequestGetResponseDto getById(Long userId, Long itemRequestId) {
 
-        userRepository.findById(userId)
-                .orElseThrow(() -> new NotFoundException("Некорректный идентификатор: " + userId));
+        checkUserExists(userId);
 
         ItemRequest itemRequest = itemRequestRepository.findById(itemRequestId)
                 .orElseThrow(() -> new NotFoundException("Некорректный идентификатор: " + itemRequestId));
 
-        return getResponseItemRequestList(List.of(itemRequest)).get(0);
+        return getResponseItemRequestList(List.of(ItemRequestMapper.toGetResponseDto(itemRequest))).get(0);
     }
 
     @Override
@@ -85,38 +84,27 @@ public class ItemRequestServiceImpl implements ItemRequestService {
         return ItemRequestMapper.toCreateResponseDto(itemRequestRepository.save(itemRequest));
     }
 
-    private List<ItemRequestGetResponseDto> getResponseItemRequestList(List<ItemRequest> requests) {
+    private void checkUserExists(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException("Некорректный идентификатор: " + userId);
+        }
+    }
 
-        List<ItemRequestGetResponseDto> responseItemRequests = new ArrayList<>();
+    private List<ItemRequestGetResponseDto> getResponseItemRequestList(List<ItemRequestGetResponseDto> requests) {
 
         List<Long> requestsIds = requests
                 .stream()
-                .map(ItemRequest::getId)
+                .map(ItemRequestGetResponseDto::getId)
                 .collect(toList());
 
-        Map<ItemRequest, List<Item>> itemByGroup = itemRepository.findAllByItemRequestIdIn(requestsIds)
+        Map<Long, List<ItemRequestGetResponseDto.RequestedItem>> itemByGroup = itemRepository
+                .findAllByItemRequestIdIn(requestsIds)
                 .stream()
-                .collect(groupingBy(Item::getItemRequest, toList()));
-
-        for (ItemRequest request : requests) {
-
-            ItemRequestGetResponseDto itemResponse = ItemRequestMapper.toGetResponseDto(request);
-
-            itemResponse.setItems(itemByGroup.get(request) == null ? new ArrayList<>() :
-                    itemByGroup.get(request).stream()
-                            .map(item -> ItemRequestGetResponseDto.RequestedItem.builder()
-                                    .id(item.getId())
-                                    .name(item.getName())
-                                    .description(item.getDescription())
-                                    .available(item.getAvailable())
-                                    .requestId(item.getItemRequest().getId())
-                                    .build()
-                            )
-                            .collect(toList())
-            );
-
-            responseItemRequests.add(itemResponse);
+                .collect(groupingBy(ItemRequestGetResponseDto.RequestedItem::getRequestId, toList()));
+
+        for (ItemRequestGetResponseDto request : requests) {
+            request.setItems(itemByGroup.getOrDefault(request.getId(), new ArrayList<>()));
         }
-        return responseItemRequests;
+        return requests;
     }
 }
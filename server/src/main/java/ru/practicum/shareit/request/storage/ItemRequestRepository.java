@@ -2,12 +2,18 @@ package ru.practicum.shareit.request.storage;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import ru.practicum.shareit.request.dto.ItemRequestGetResponseDto;
 import ru.practicum.shareit.request.model.ItemRequest;
 
 import java.util.List;
 
 public interface ItemRequestRepository extends JpaRepository<ItemRequest, Long> {
-    List<ItemRequest> findAllByRequesterIdNotOrderByCreatedDesc(Long userId, Pageable pageable);
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestGetResponseDto(r.id, r.description, r.created) " +
+            "from ItemRequest r where r.requester.id <> ?1 order by r.created desc")
+    List<ItemRequestGetResponseDto> findAllByRequesterIdNotOrderByCreatedDesc(Long userId, Pageable pageable);
 
-    List<ItemRequest> findAllByRequesterIdOrderByCreatedDesc(Long requesterId, Pageable pageable);
+    @Query("select new ru.practicum.shareit.request.dto.ItemRequestGetResponseDto(r.id, r.description, r.created) " +
+            "from ItemRequest r where r.requester.id = ?1 order by r.created desc")
+    List<ItemRequestGetResponseDto> findAllByRequesterIdOrderByCreatedDesc(Long requesterId, Pageable pageable);
 }
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.util.slowquery;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.repository.Repository;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class QueryMethodAspect {
+    private static final ThreadLocal<String> CURRENT_METHOD = new ThreadLocal<>();
+
+    private final Map<Class<?>, String> repositoryNames = new ConcurrentHashMap<>();
+
+    public static String currentMethod() {
+        return CURRENT_METHOD.get();
+    }
+
+    @Around("target(org.springframework.data.repository.Repository)")
+    public Object rememberRepositoryMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, repositoryName(joinPoint.getThis()));
+    }
+
+    @Around("@within(org.springframework.stereotype.Service)")
+    public Object rememberServiceMethod(ProceedingJoinPoint joinPoint) throws Throwable {
+        return proceed(joinPoint, joinPoint.getTarget().getClass().getSimpleName());
+    }
+
+    private static Object proceed(ProceedingJoinPoint joinPoint, String typeName) throws Throwable {
+        String previous = CURRENT_METHOD.get();
+        CURRENT_METHOD.set(typeName + "." + joinPoint.getSignature().getName());
+
+        try {
+            return joinPoint.proceed();
+        } finally {
+            if (previous == null) {
+                CURRENT_METHOD.remove();
+            } else {
+                CURRENT_METHOD.set(previous);
+            }
+        }
+    }
+
+    private String repositoryName(Object proxy) {
+        return repositoryNames.computeIfAbsent(proxy.getClass(), type -> Arrays.stream(
+                        AopProxyUtils.proxiedUserInterfaces(proxy))
+                .filter(Repository.class::isAssignableFrom)
+                .findFirst()
+                .map(Class::getSimpleName)
+                .orElse(type.getSimpleName()));
+    }
+}
@@ -0,0 +1,106 @@
+package ru.practicum.shareit.util.slowquery;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.List;
+import java.util.StringJoiner;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Component
+public class QueryPlanCollector implements DisposableBean {
+    private static final String EXPLAIN = "EXPLAIN (ANALYZE, BUFFERS) ";
+    private static final int EXPLAIN_TIMEOUT_SECONDS = 10;
+    private static final int QUEUE_CAPACITY = 16;
+
+    private final ObjectProvider<DataSource> dataSource;
+    private final SlowQueryRegistry registry;
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+    private volatile Boolean postgres;
+
+    public QueryPlanCollector(ObjectProvider<DataSource> dataSource, SlowQueryRegistry registry,
+                              @Value("${shareit.slow-queries.explain}") boolean enabled) {
+        this.dataSource = dataSource;
+        this.registry = registry;
+        this.enabled = enabled;
+        executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "slow-query-explain");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    public static boolean isExplain(String sql) {
+        return startsWith(sql, "explain");
+    }
+
+    public boolean canExplain(String sql) {
+        return enabled && !Boolean.FALSE.equals(postgres) && startsWith(sql, "select");
+    }
+
+    public void collect(String sql, List<ParameterSetOperation> parameters) {
+        try {
+            executor.execute(() -> registry.attachPlan(sql, explain(sql, parameters)));
+        } catch (RejectedExecutionException e) {
+            registry.cancelPlan(sql);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    private String explain(String sql, List<ParameterSetOperation> parameters) {
+        try (Connection connection = dataSource.getObject().getConnection()) {
+            if (postgres == null) {
+                postgres = "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+            }
+            if (!postgres) {
+                return null;
+            }
+
+            connection.setReadOnly(true);
+            connection.setAutoCommit(false);
+
+            try (PreparedStatement statement = connection.prepareStatement(EXPLAIN + sql)) {
+                statement.setQueryTimeout(EXPLAIN_TIMEOUT_SECONDS);
+                for (ParameterSetOperation parameter : parameters) {
+                    parameter.getMethod().invoke(statement, parameter.getArgs());
+                }
+
+                StringJoiner plan = new StringJoiner("\n");
+                try (ResultSet resultSet = statement.executeQuery()) {
+                    while (resultSet.next()) {
+                        plan.add(resultSet.getString(1));
+                    }
+                }
+                return plan.toString();
+            } finally {
+                connection.rollback();
+            }
+        } catch (SQLException | ReflectiveOperationException e) {
+            log.warn("Не удалось получить план медленного запроса: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static boolean startsWith(String sql, String keyword) {
+        return sql.stripLeading().regionMatches(true, 0, keyword, 0, keyword.length());
+    }
+}
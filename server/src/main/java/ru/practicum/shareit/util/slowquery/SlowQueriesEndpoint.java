@@ -0,0 +1,26 @@
+package ru.practicum.shareit.util.slowquery;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+@Component
+@Endpoint(id = "slowqueries")
+@RequiredArgsConstructor
+public class SlowQueriesEndpoint {
+    private final SlowQueryRegistry registry;
+
+    @ReadOperation
+    public List<SlowQuery> slowQueries() {
+        return registry.getAll();
+    }
+
+    @DeleteOperation
+    public void reset() {
+        registry.clear();
+    }
+}
@@ -0,0 +1,24 @@
+package ru.practicum.shareit.util.slowquery;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+public class SlowQuery {
+    private String sql;
+    private String method;
+    private long count;
+    private long maxMillis;
+    private long totalMillis;
+    private LocalDateTime lastSeen;
+    private List<String> parameters;
+    private String plan;
+}
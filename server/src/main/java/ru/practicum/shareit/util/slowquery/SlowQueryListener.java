@@ -0,0 +1,78 @@
+package ru.practicum.shareit.util.slowquery;
+
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ParameterSetOperation;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+import static java.util.stream.Collectors.toList;
+
+@Slf4j
+@Component
+public class SlowQueryListener implements QueryExecutionListener {
+    private static final int MAX_PARAMETER_LENGTH = 200;
+
+    private final SlowQueryRegistry registry;
+    private final QueryPlanCollector planCollector;
+    private final long thresholdMillis;
+
+    public SlowQueryListener(SlowQueryRegistry registry, QueryPlanCollector planCollector,
+                             @Value("${shareit.slow-queries.threshold}") Duration threshold) {
+        this.registry = registry;
+        this.planCollector = planCollector;
+        this.thresholdMillis = threshold.toMillis();
+    }
+
+    @Override
+    public void beforeQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+    }
+
+    @Override
+    public void afterQuery(ExecutionInfo execInfo, List<QueryInfo> queryInfoList) {
+        long elapsedMillis = execInfo.getElapsedTime();
+        if (elapsedMillis < thresholdMillis) {
+            return;
+        }
+
+        String method = QueryMethodAspect.currentMethod();
+
+        for (QueryInfo queryInfo : queryInfoList) {
+            String sql = queryInfo.getQuery();
+            if (QueryPlanCollector.isExplain(sql)) {
+                continue;
+            }
+
+            List<ParameterSetOperation> parameters = queryInfo.getParametersList().isEmpty()
+                    ? List.of() : queryInfo.getParametersList().get(0);
+
+            log.warn("Медленный запрос ({} мс) в {}: {}", elapsedMillis, method, sql);
+            registry.record(sql, method, elapsedMillis, describe(parameters));
+
+            if (planCollector.canExplain(sql) && registry.requestPlan(sql)) {
+                planCollector.collect(sql, parameters);
+            }
+        }
+    }
+
+    private static List<String> describe(List<ParameterSetOperation> parameters) {
+        return parameters.stream()
+                .filter(parameter -> !ParameterSetOperation.isRegisterOutParameterOperation(parameter))
+                .map(SlowQueryListener::describe)
+                .collect(toList());
+    }
+
+    private static String describe(ParameterSetOperation parameter) {
+        String value = ParameterSetOperation.isSetNullParameterOperation(parameter)
+                ? "null" : String.valueOf(parameter.getArgs()[1]);
+        if (value.length() > MAX_PARAMETER_LENGTH) {
+            value = value.substring(0, MAX_PARAMETER_LENGTH) + "...";
+        }
+        return parameter.getArgs()[0] + "=" + value;
+    }
+}
@@ -0,0 +1,86 @@
+package ru.practicum.shareit.util.slowquery;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static java.util.stream.Collectors.toList;
+
+@Component
+public class SlowQueryRegistry {
+    private final int maxEntries;
+    private final Map<String, SlowQuery> queries = new HashMap<>();
+    private final Set<String> plansRequested = new HashSet<>();
+
+    public SlowQueryRegistry(@Value("${shareit.slow-queries.max-entries}") int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    public synchronized void record(String sql, String method, long elapsedMillis, List<String> parameters) {
+        SlowQuery query = queries.get(sql);
+
+        if (query == null) {
+            if (queries.size() >= maxEntries && !evictFasterThan(elapsedMillis)) {
+                return;
+            }
+            query = SlowQuery.builder().sql(sql).build();
+            queries.put(sql, query);
+        }
+
+        query.setCount(query.getCount() + 1);
+        query.setTotalMillis(query.getTotalMillis() + elapsedMillis);
+        query.setLastSeen(LocalDateTime.now());
+
+        if (elapsedMillis >= query.getMaxMillis()) {
+            query.setMaxMillis(elapsedMillis);
+            query.setMethod(method);
+            query.setParameters(parameters);
+        }
+    }
+
+    public synchronized boolean requestPlan(String sql) {
+        return queries.containsKey(sql) && plansRequested.add(sql);
+    }
+
+    public synchronized void cancelPlan(String sql) {
+        plansRequested.remove(sql);
+    }
+
+    public synchronized void attachPlan(String sql, String plan) {
+        SlowQuery query = queries.get(sql);
+        if (query != null) {
+            query.setPlan(plan);
+        }
+    }
+
+    public synchronized List<SlowQuery> getAll() {
+        return queries.values().stream()
+                .sorted(Comparator.comparingLong(SlowQuery::getMaxMillis).reversed())
+                .map(query -> query.toBuilder().build())
+                .collect(toList());
+    }
+
+    public synchronized void clear() {
+        queries.clear();
+        plansRequested.clear();
+    }
+
+    private boolean evictFasterThan(long elapsedMillis) {
+        return queries.values().stream()
+                .min(Comparator.comparingLong(SlowQuery::getMaxMillis))
+                .filter(fastest -> fastest.getMaxMillis() < elapsedMillis)
+                .map(fastest -> {
+                    queries.remove(fastest.getSql());
+                    plansRequested.remove(fastest.getSql());
+                    return true;
+                })
+                .orElse(false);
+    }
+}
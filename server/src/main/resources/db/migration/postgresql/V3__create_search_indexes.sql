@@ -0,0 +1,13 @@
+CREATE INDEX IF NOT EXISTS items_search_idx ON items
+    USING GIN (to_tsvector('russian', item_name || ' ' || description))
+    WHERE available;
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS items_name_trgm_idx ON items
+    USING GIN (upper(item_name) gin_trgm_ops)
+    WHERE available;
+
+CREATE INDEX IF NOT EXISTS items_description_trgm_idx ON items
+    USING GIN (upper(description) gin_trgm_ops)
+    WHERE available;
@@ -0,0 +1,46 @@
+CREATE EXTENSION IF NOT EXISTS btree_gist;
+
+DO $$
+DECLARE
+    candidate RECORD;
+    rejected BIGINT := 0;
+BEGIN
+    FOR candidate IN
+        SELECT b.booking_id, b.item_id, b.start_date, b.end_date
+        FROM bookings b
+        WHERE b.status = 'APPROVED'
+          AND EXISTS (SELECT 1
+                      FROM bookings o
+                      WHERE o.item_id = b.item_id
+                        AND o.status = 'APPROVED'
+                        AND o.booking_id <> b.booking_id
+                        AND tsrange(o.start_date, o.end_date) && tsrange(b.start_date, b.end_date))
+        ORDER BY b.item_id, b.start_date, b.booking_id
+    LOOP
+        UPDATE bookings
+        SET status = 'REJECTED'
+        WHERE booking_id = candidate.booking_id
+          AND EXISTS (SELECT 1
+                      FROM bookings kept
+                      WHERE kept.item_id = candidate.item_id
+                        AND kept.status = 'APPROVED'
+                        AND (kept.start_date, kept.booking_id) < (candidate.start_date, candidate.booking_id)
+                        AND tsrange(kept.start_date, kept.end_date)
+                            && tsrange(candidate.start_date, candidate.end_date));
+
+        IF FOUND THEN
+            rejected := rejected + 1;
+            RAISE WARNING 'Бронирование % вещи % пересекается с более ранним подтверждённым и отклонено',
+                candidate.booking_id, candidate.item_id;
+        END IF;
+    END LOOP;
+
+    IF rejected > 0 THEN
+        RAISE WARNING 'Отклонено пересекающихся подтверждённых бронирований: %', rejected;
+    END IF;
+END
+$$;
+
+ALTER TABLE bookings ADD CONSTRAINT bookings_approved_overlap_excl
+    EXCLUDE USING GIST (item_id WITH =, tsrange(start_date, end_date) WITH &&)
+    WHERE (status = 'APPROVED');
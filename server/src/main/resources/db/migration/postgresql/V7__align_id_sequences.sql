@@ -0,0 +1,9 @@
+SELECT setval('users_seq', (SELECT COALESCE(MAX(user_id), 0) + 50 FROM users), false);
+
+SELECT setval('requests_seq', (SELECT COALESCE(MAX(request_id), 0) + 50 FROM requests), false);
+
+SELECT setval('items_seq', (SELECT COALESCE(MAX(item_id), 0) + 50 FROM items), false);
+
+SELECT setval('bookings_seq', (SELECT COALESCE(MAX(booking_id), 0) + 50 FROM bookings), false);
+
+SELECT setval('comments_seq', (SELECT COALESCE(MAX(comment_id), 0) + 50 FROM comments), false);
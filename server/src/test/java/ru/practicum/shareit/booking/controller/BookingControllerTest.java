@@ -7,6 +7,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.dto.RequestBookingState;
@@ -16,10 +17,12 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -51,6 +54,31 @@ public class BookingControllerTest {
         verifyNoMoreInteractions(bookingService);
     }
 
+    @Test
+    void exportAllTest() throws Exception {
+        Long userId = 1L;
+
+        BookingResponseDto responseDto1 = getBookingResponseDto(10L);
+        BookingResponseDto responseDto2 = getBookingResponseDto(11L);
+
+        doAnswer(invocation -> {
+            Consumer<BookingResponseDto> action = invocation.getArgument(1);
+            action.accept(responseDto1);
+            action.accept(responseDto2);
+            return null;
+        }).when(bookingService).exportAllByBooker(eq(userId), any());
+
+        mockMvc.perform(get("/bookings/export")
+                        .header("X-Sharer-User-Id", userId))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andExpect(content().string(objectMapper.writeValueAsString(responseDto1) + "\n"
+                        + objectMapper.writeValueAsString(responseDto2) + "\n"));
+
+        verify(bookingService, times(1)).exportAllByBooker(eq(userId), any());
+        verifyNoMoreInteractions(bookingService);
+    }
+
     @Test
     void getAllByStateTest() throws Exception {
 
@@ -76,6 +104,36 @@ public class BookingControllerTest {
         verifyNoMoreInteractions(bookingService);
     }
 
+    @Test
+    void getAllByStateAfterTest() throws Exception {
+        Long userId = 1L;
+
+        BookingResponseDto responseDto = getBookingResponseDto(10L);
+        BookingCursor after = new BookingCursor(LocalDateTime.of(2030, 1, 1, 12, 0), 11L);
+
+        when(bookingService.getAllByStateAfter(any(), eq(userId), any(), anyInt())).thenReturn(List.of(responseDto));
+
+        mockMvc.perform(get("/bookings")
+                        .param("after", "2030-01-01T12:00:00,11")
+                        .param("size", "5")
+                        .header("X-Sharer-User-Id", userId))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(responseDto.getId()));
+
+        verify(bookingService, times(1)).getAllByStateAfter(eq(RequestBookingState.ALL), eq(userId), eq(after), eq(5));
+        verifyNoMoreInteractions(bookingService);
+    }
+
+    @Test
+    void getAllByStateAfterTest_InvalidCursor() throws Exception {
+        mockMvc.perform(get("/bookings/owner")
+                        .param("after", "yesterday")
+                        .header("X-Sharer-User-Id", 1L))
+                .andExpect(status().isBadRequest());
+
+        verifyNoInteractions(bookingService);
+    }
+
     @Test
     void getAllByStateForOwnerTest() throws Exception {
         Long userId = 1L;
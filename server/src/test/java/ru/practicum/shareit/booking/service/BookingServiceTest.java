@@ -5,30 +5,38 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import ru.practicum.shareit.booking.dto.BookingCursor;
 import ru.practicum.shareit.booking.dto.BookingRequestDto;
 import ru.practicum.shareit.booking.dto.BookingResponseDto;
 import ru.practicum.shareit.booking.dto.RequestBookingState;
+import ru.practicum.shareit.booking.mapper.BookingMapper;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.booking.storage.BookingRepository;
 import ru.practicum.shareit.exception.BadRequestException;
+import ru.practicum.shareit.exception.InvalidDataException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.service.ItemViewCache;
 import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.user.model.User;
 import ru.practicum.shareit.user.storage.UserRepository;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -45,6 +53,9 @@ public class BookingServiceTest {
     @Mock
     private ItemRepository itemRepository;
 
+    @Mock
+    private ItemViewCache itemViewCache;
+
     @Test
     void getByIdTest() {
         User owner = getUser(1L);
@@ -55,7 +66,6 @@ public class BookingServiceTest {
         Booking booking = getBooking(100L, booker, item);
 
         when(bookingRepository.findById(eq(booking.getId()))).thenReturn(Optional.ofNullable(booking));
-        when(userRepository.findById(eq(owner.getId()))).thenReturn(Optional.ofNullable(owner));
 
         BookingResponseDto responseDto = bookingService.getById(booking.getId(), owner.getId());
 
@@ -66,7 +76,6 @@ public class BookingServiceTest {
         assertThat(responseDto.getItem().getName(), equalTo(item.getName()));
 
         verify(bookingRepository, times(1)).findById(eq(booking.getId()));
-        verify(userRepository, times(1)).findById(eq(owner.getId()));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
     }
 
@@ -81,14 +90,14 @@ public class BookingServiceTest {
         Booking booking = getBooking(100L, booker, item);
 
         when(bookingRepository.findById(eq(booking.getId()))).thenReturn(Optional.ofNullable(booking));
-        when(userRepository.findById(eq(notOwner.getId()))).thenReturn(Optional.ofNullable(notOwner));
+        when(userRepository.existsById(eq(notOwner.getId()))).thenReturn(true);
 
         NotFoundException e = assertThrows(NotFoundException.class, () -> {
             bookingService.getById(booking.getId(), notOwner.getId());
         });
 
         verify(bookingRepository, times(1)).findById(eq(booking.getId()));
-        verify(userRepository, times(1)).findById(eq(notOwner.getId()));
+        verify(userRepository, times(1)).existsById(eq(notOwner.getId()));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
     }
 
@@ -107,18 +116,13 @@ public class BookingServiceTest {
         booking2.setStart(LocalDateTime.now().minusDays(8));
         booking2.setEnd(LocalDateTime.now().minusDays(7));
 
-        List<Booking> bookingList = Arrays.asList(
-                booking1,
-                booking2
+        List<BookingResponseDto> bookingList = Arrays.asList(
+                BookingMapper.toDto(booking1),
+                BookingMapper.toDto(booking2)
         );
 
-        when(userRepository.findById(eq(booker.getId()))).thenReturn(Optional.ofNullable(booker));
-        when(bookingRepository.findAllByUserIdOrderByStartDesc(eq(booker.getId()), any(Pageable.class))).thenReturn(bookingList);
-        when(bookingRepository.findAllByUserIdAndEndBeforeOrderByStartDesc(eq(booker.getId()), any(LocalDateTime.class), any(Pageable.class))).thenReturn(bookingList);
-        when(bookingRepository.findAllByUserIdAndStartAfterOrderByStartDesc(eq(booker.getId()), any(LocalDateTime.class), any(Pageable.class))).thenReturn(bookingList);
-        when(bookingRepository.findAllByUserIdAndStartBeforeAndEndAfterOrderByStartDesc(eq(booker.getId()), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class))).thenReturn(bookingList);
-        when(bookingRepository.findAllByUserIdAndStatusOrderByStartDesc(eq(booker.getId()), eq(BookingStatus.WAITING), any(Pageable.class))).thenReturn(bookingList);
-        when(bookingRepository.findAllByUserIdAndStatusOrderByStartDesc(eq(booker.getId()), eq(BookingStatus.REJECTED), any(Pageable.class))).thenReturn(bookingList);
+        when(bookingRepository.findPageByBookerId(eq(booker.getId()), any(RequestBookingState.class), any(LocalDateTime.class),
+                isNull(), any(Pageable.class))).thenReturn(bookingList);
 
         List<BookingResponseDto> responseDtoList;
 
@@ -132,14 +136,57 @@ public class BookingServiceTest {
         assertThat(responseDtoList.get(0).getId(), equalTo(booking1.getId()));
         assertThat(responseDtoList.get(1).getId(), equalTo(booking2.getId()));
 
-        verify(userRepository, times(6)).findById(eq(booker.getId()));
-        verify(bookingRepository, times(1)).findAllByUserIdOrderByStartDesc(eq(booker.getId()), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByUserIdAndEndBeforeOrderByStartDesc(eq(booker.getId()), any(LocalDateTime.class), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByUserIdAndStartAfterOrderByStartDesc(eq(booker.getId()), any(LocalDateTime.class), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByUserIdAndStartBeforeAndEndAfterOrderByStartDesc(eq(booker.getId()), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByUserIdAndStatusOrderByStartDesc(eq(booker.getId()), eq(BookingStatus.WAITING), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByUserIdAndStatusOrderByStartDesc(eq(booker.getId()), eq(BookingStatus.REJECTED), any(Pageable.class));
+        for (RequestBookingState state : RequestBookingState.values()) {
+            verify(bookingRepository, times(1)).findPageByBookerId(eq(booker.getId()), eq(state), any(LocalDateTime.class),
+                    isNull(), any(Pageable.class));
+        }
+
+        verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
+    }
+
+    @Test
+    void getAllByStateTest_UnknownUser() {
+        when(bookingRepository.findPageByBookerId(eq(99L), eq(RequestBookingState.ALL), any(LocalDateTime.class),
+                isNull(), any(Pageable.class))).thenReturn(List.of());
+        when(userRepository.existsById(eq(99L))).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> bookingService.getAllByState(RequestBookingState.ALL, 99L, 0, 10));
+
+        verify(bookingRepository, times(1)).findPageByBookerId(eq(99L), eq(RequestBookingState.ALL),
+                any(LocalDateTime.class), isNull(), any(Pageable.class));
+        verify(userRepository, times(1)).existsById(eq(99L));
+        verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
+    }
+
+    @Test
+    void exportAllByBookerTest() {
+        User booker = getUser(2L);
+        Item item = getItem(1L, getUser(1L));
+        List<BookingResponseDto> bookings = List.of(
+                BookingMapper.toDto(getBooking(10L, booker, item)),
+                BookingMapper.toDto(getBooking(11L, booker, item)));
+
+        when(bookingRepository.streamAllByBookerId(eq(booker.getId()))).thenReturn(bookings.stream());
+
+        List<BookingResponseDto> exported = new ArrayList<>();
+        bookingService.exportAllByBooker(booker.getId(), exported::add);
 
+        assertThat(exported, equalTo(bookings));
+
+        verify(bookingRepository, times(1)).streamAllByBookerId(eq(booker.getId()));
+        verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
+    }
+
+    @Test
+    void exportAllByBookerTest_UnknownUser() {
+        when(bookingRepository.streamAllByBookerId(eq(99L))).thenReturn(Stream.empty());
+        when(userRepository.existsById(eq(99L))).thenReturn(false);
+
+        assertThrows(NotFoundException.class, () -> bookingService.exportAllByBooker(99L, booking -> {
+        }));
+
+        verify(bookingRepository, times(1)).streamAllByBookerId(eq(99L));
+        verify(userRepository, times(1)).existsById(eq(99L));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
     }
 
@@ -158,18 +205,13 @@ public class BookingServiceTest {
         booking2.setStart(LocalDateTime.now().minusDays(8));
         booking2.setEnd(LocalDateTime.now().minusDays(7));
 
-        List<Booking> bookingList = Arrays.asList(
-                booking1,
-                booking2
+        List<BookingResponseDto> bookingList = Arrays.asList(
+                BookingMapper.toDto(booking1),
+                BookingMapper.toDto(booking2)
         );
 
-        when(userRepository.findById(eq(owner.getId()))).thenReturn(Optional.ofNullable(owner));
-        when(bookingRepository.findAllByItemOwnerIdOrderByStartDesc(eq(owner.getId()), any(Pageable.class))).thenReturn(bookingList);
-        when(bookingRepository.findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(eq(owner.getId()), any(LocalDateTime.class), any(Pageable.class))).thenReturn(bookingList);
-        when(bookingRepository.findAllByItemOwnerIdAndStartAfterOrderByStartDesc(eq(owner.getId()), any(LocalDateTime.class), any(Pageable.class))).thenReturn(bookingList);
-        when(bookingRepository.findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(eq(owner.getId()), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class))).thenReturn(bookingList);
-        when(bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(eq(owner.getId()), eq(BookingStatus.WAITING), any(Pageable.class))).thenReturn(bookingList);
-        when(bookingRepository.findAllByItemOwnerIdAndStatusOrderByStartDesc(eq(owner.getId()), eq(BookingStatus.REJECTED), any(Pageable.class))).thenReturn(bookingList);
+        when(bookingRepository.findPageByItemOwnerId(eq(owner.getId()), any(RequestBookingState.class), any(LocalDateTime.class),
+                isNull(), any(Pageable.class))).thenReturn(bookingList);
 
         List<BookingResponseDto> responseDtoList;
 
@@ -183,17 +225,46 @@ public class BookingServiceTest {
         assertThat(responseDtoList.get(0).getId(), equalTo(booking1.getId()));
         assertThat(responseDtoList.get(1).getId(), equalTo(booking2.getId()));
 
-        verify(userRepository, times(6)).findById(eq(owner.getId()));
-        verify(bookingRepository, times(1)).findAllByItemOwnerIdOrderByStartDesc(eq(owner.getId()), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByItemOwnerIdAndEndBeforeOrderByStartDesc(eq(owner.getId()), any(LocalDateTime.class), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByItemOwnerIdAndStartAfterOrderByStartDesc(eq(owner.getId()), any(LocalDateTime.class), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByItemOwnerIdAndStartBeforeAndEndAfterOrderByStartDesc(eq(owner.getId()), any(LocalDateTime.class), any(LocalDateTime.class), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByItemOwnerIdAndStatusOrderByStartDesc(eq(owner.getId()), eq(BookingStatus.WAITING), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByItemOwnerIdAndStatusOrderByStartDesc(eq(owner.getId()), eq(BookingStatus.REJECTED), any(Pageable.class));
+        for (RequestBookingState state : RequestBookingState.values()) {
+            verify(bookingRepository, times(1)).findPageByItemOwnerId(eq(owner.getId()), eq(state), any(LocalDateTime.class),
+                    isNull(), any(Pageable.class));
+        }
 
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
     }
 
+    @Test
+    void getAllByStateAfterTest() {
+        User owner = getUser(1L);
+        User booker = getUser(2L);
+
+        Item item = getItem(10L, owner);
+
+        Booking booking = getBooking(100L, booker, item);
+        BookingCursor after = new BookingCursor(LocalDateTime.now(), 101L);
+
+        when(bookingRepository.findPageByBookerId(eq(booker.getId()), eq(RequestBookingState.PAST),
+                any(LocalDateTime.class), eq(after), eq(PageRequest.of(0, 10))))
+                .thenReturn(List.of(BookingMapper.toDto(booking)));
+        when(bookingRepository.findPageByItemOwnerId(eq(owner.getId()), eq(RequestBookingState.ALL),
+                any(LocalDateTime.class), eq(after), eq(PageRequest.of(0, 10))))
+                .thenReturn(List.of(BookingMapper.toDto(booking)));
+
+        List<BookingResponseDto> bookerList = bookingService.getAllByStateAfter(RequestBookingState.PAST,
+                booker.getId(), after, 10);
+        List<BookingResponseDto> ownerList = bookingService.getAllByStateForOwnerAfter(RequestBookingState.ALL,
+                owner.getId(), after, 10);
+
+        assertThat(bookerList.get(0).getId(), equalTo(booking.getId()));
+        assertThat(ownerList.get(0).getId(), equalTo(booking.getId()));
+
+        verify(bookingRepository, times(1)).findPageByBookerId(eq(booker.getId()), eq(RequestBookingState.PAST),
+                any(LocalDateTime.class), eq(after), eq(PageRequest.of(0, 10)));
+        verify(bookingRepository, times(1)).findPageByItemOwnerId(eq(owner.getId()), eq(RequestBookingState.ALL),
+                any(LocalDateTime.class), eq(after), eq(PageRequest.of(0, 10)));
+        verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
+    }
+
     @Test
     void createTest() {
         User owner = getUser(1L);
@@ -221,7 +292,37 @@ public class BookingServiceTest {
 
         verify(userRepository, times(1)).findById(eq(booker.getId()));
         verify(itemRepository, times(1)).findById(eq(item.getId()));
+        verify(bookingRepository, times(1)).existsByItemIdAndStatusAndStartBeforeAndEndAfter(eq(item.getId()),
+                eq(BookingStatus.APPROVED), any(), any());
         verify(bookingRepository, times(1)).save(any(Booking.class));
+        verify(itemViewCache, times(1)).evict(eq(item.getId()));
+        verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
+    }
+
+    @Test
+    void createTest_OverlappingApprovedBooking() {
+        User owner = getUser(1L);
+        User booker = getUser(2L);
+
+        Item item = getItem(10L, owner);
+
+        BookingRequestDto requestDto = BookingRequestDto.builder()
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .itemId(item.getId())
+                .build();
+
+        when(userRepository.findById(eq(booker.getId()))).thenReturn(Optional.ofNullable(booker));
+        when(itemRepository.findById(eq(item.getId()))).thenReturn(Optional.ofNullable(item));
+        when(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(eq(item.getId()),
+                eq(BookingStatus.APPROVED), eq(requestDto.getEnd()), eq(requestDto.getStart()))).thenReturn(true);
+
+        assertThrows(InvalidDataException.class, () -> bookingService.addBooking(requestDto, booker.getId()));
+
+        verify(userRepository, times(1)).findById(eq(booker.getId()));
+        verify(itemRepository, times(1)).findById(eq(item.getId()));
+        verify(bookingRepository, times(1)).existsByItemIdAndStatusAndStartBeforeAndEndAfter(eq(item.getId()),
+                eq(BookingStatus.APPROVED), eq(requestDto.getEnd()), eq(requestDto.getStart()));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
     }
 
@@ -282,8 +383,8 @@ public class BookingServiceTest {
         booking.setStatus(BookingStatus.WAITING);
 
         when(bookingRepository.findById(eq(booking.getId()))).thenReturn(Optional.ofNullable(booking));
-        when(userRepository.findById(eq(owner.getId()))).thenReturn(Optional.ofNullable(owner));
-        when(bookingRepository.save(any(Booking.class))).thenReturn(booking);
+        when(itemRepository.findByIdForUpdate(eq(item.getId()))).thenReturn(Optional.of(item));
+        when(bookingRepository.updateStatusIfWaiting(eq(booking.getId()), eq(BookingStatus.APPROVED))).thenReturn(1);
 
         BookingResponseDto responseDto = bookingService.approve(booking.getId(), true, owner.getId());
 
@@ -294,8 +395,85 @@ public class BookingServiceTest {
         assertThat(responseDto.getItem().getName(), equalTo(item.getName()));
 
         verify(bookingRepository, times(1)).findById(eq(booking.getId()));
-        verify(userRepository, times(1)).findById(eq(owner.getId()));
-        verify(bookingRepository, times(1)).save(any(Booking.class));
+        verify(itemRepository, times(1)).findByIdForUpdate(eq(item.getId()));
+        verify(bookingRepository, times(1)).existsByItemIdAndStatusAndStartBeforeAndEndAfter(eq(item.getId()),
+                eq(BookingStatus.APPROVED), any(), any());
+        verify(bookingRepository, times(1)).updateStatusIfWaiting(eq(booking.getId()), eq(BookingStatus.APPROVED));
+        verify(itemViewCache, times(1)).evict(eq(item.getId()));
+        verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
+    }
+
+    @Test
+    void approveTest_ChangedConcurrently() {
+        User owner = getUser(1L);
+        User booker = getUser(2L);
+
+        Item item = getItem(10L, owner);
+
+        Booking booking = getBooking(100L, booker, item);
+        booking.setStatus(BookingStatus.WAITING);
+
+        when(bookingRepository.findById(eq(booking.getId()))).thenReturn(Optional.ofNullable(booking));
+        when(bookingRepository.updateStatusIfWaiting(eq(booking.getId()), eq(BookingStatus.REJECTED))).thenReturn(0);
+
+        InvalidDataException e = assertThrows(InvalidDataException.class, () -> {
+            bookingService.approve(booking.getId(), false, owner.getId());
+        });
+
+        assertThat(e.getMessage(), equalTo("Бронь уже подтверждена или отклонена"));
+
+        verify(bookingRepository, times(1)).findById(eq(booking.getId()));
+        verify(bookingRepository, times(1)).updateStatusIfWaiting(eq(booking.getId()), eq(BookingStatus.REJECTED));
+        verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
+    }
+
+    @Test
+    void approveTest_OverlappingApprovedBooking() {
+        User owner = getUser(1L);
+        User booker = getUser(2L);
+
+        Item item = getItem(10L, owner);
+
+        Booking booking = getBooking(100L, booker, item);
+        booking.setStatus(BookingStatus.WAITING);
+        booking.setStart(LocalDateTime.now().plusDays(1));
+        booking.setEnd(LocalDateTime.now().plusDays(2));
+
+        when(bookingRepository.findById(eq(booking.getId()))).thenReturn(Optional.ofNullable(booking));
+        when(itemRepository.findByIdForUpdate(eq(item.getId()))).thenReturn(Optional.of(item));
+        when(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(eq(item.getId()),
+                eq(BookingStatus.APPROVED), eq(booking.getEnd()), eq(booking.getStart()))).thenReturn(true);
+
+        assertThrows(InvalidDataException.class, () -> bookingService.approve(booking.getId(), true, owner.getId()));
+
+        assertThat(booking.getStatus(), equalTo(BookingStatus.WAITING));
+
+        verify(bookingRepository, times(1)).findById(eq(booking.getId()));
+        verify(itemRepository, times(1)).findByIdForUpdate(eq(item.getId()));
+        verify(bookingRepository, times(1)).existsByItemIdAndStatusAndStartBeforeAndEndAfter(eq(item.getId()),
+                eq(BookingStatus.APPROVED), eq(booking.getEnd()), eq(booking.getStart()));
+        verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
+    }
+
+    @Test
+    void rejectTest() {
+        User owner = getUser(1L);
+        User booker = getUser(2L);
+
+        Item item = getItem(10L, owner);
+
+        Booking booking = getBooking(100L, booker, item);
+        booking.setStatus(BookingStatus.WAITING);
+
+        when(bookingRepository.findById(eq(booking.getId()))).thenReturn(Optional.ofNullable(booking));
+        when(bookingRepository.updateStatusIfWaiting(eq(booking.getId()), eq(BookingStatus.REJECTED))).thenReturn(1);
+
+        BookingResponseDto responseDto = bookingService.approve(booking.getId(), false, owner.getId());
+
+        assertThat(responseDto.getStatus(), equalTo(BookingStatus.REJECTED));
+
+        verify(bookingRepository, times(1)).findById(eq(booking.getId()));
+        verify(bookingRepository, times(1)).updateStatusIfWaiting(eq(booking.getId()), eq(BookingStatus.REJECTED));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
     }
 
@@ -310,14 +488,14 @@ public class BookingServiceTest {
         booking.setStatus(BookingStatus.WAITING);
 
         when(bookingRepository.findById(eq(booking.getId()))).thenReturn(Optional.ofNullable(booking));
-        when(userRepository.findById(eq(booker.getId()))).thenReturn(Optional.ofNullable(booker));
+        when(userRepository.existsById(eq(booker.getId()))).thenReturn(true);
 
         NotFoundException e = assertThrows(NotFoundException.class, () -> {
             bookingService.approve(booking.getId(), true, booker.getId());
         });
 
         verify(bookingRepository, times(1)).findById(eq(booking.getId()));
-        verify(userRepository, times(1)).findById(eq(booker.getId()));
+        verify(userRepository, times(1)).existsById(eq(booker.getId()));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
     }
 
@@ -332,14 +510,14 @@ public class BookingServiceTest {
         booking.setStatus(BookingStatus.APPROVED);
 
         when(bookingRepository.findById(eq(booking.getId()))).thenReturn(Optional.ofNullable(booking));
-        when(userRepository.findById(eq(owner.getId()))).thenReturn(Optional.ofNullable(owner));
 
-        BadRequestException e = assertThrows(BadRequestException.class, () -> {
+        InvalidDataException e = assertThrows(InvalidDataException.class, () -> {
             bookingService.approve(booking.getId(), true, owner.getId());
         });
 
+        assertThat(e.getMessage(), equalTo("Бронь уже подтверждена или отклонена"));
+
         verify(bookingRepository, times(1)).findById(eq(booking.getId()));
-        verify(userRepository, times(1)).findById(eq(owner.getId()));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository);
     }
 
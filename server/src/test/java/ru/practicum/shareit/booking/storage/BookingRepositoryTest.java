@@ -4,13 +4,22 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
 import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.dto.BookingCursor;
+import ru.practicum.shareit.booking.dto.BookingResponseDto;
+import ru.practicum.shareit.booking.dto.RequestBookingState;
 import ru.practicum.shareit.booking.model.Booking;
 import ru.practicum.shareit.booking.model.BookingStatus;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.user.model.User;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
 
@@ -107,4 +116,445 @@ public class BookingRepositoryTest {
 
         assertThat(bookingRepository.findCountAllApprovedByItemIdAndUserId(item1.getId(), booker1.getId(), timestamp)).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @Test
+    public void findLastAndNextBookingByItemIdTest() {
+        LocalDateTime timestamp = LocalDateTime.now();
+
+        User owner = testEntityManager.persist(User.builder()
+                .name("Owner")
+                .email("owner@user.com")
+                .build());
+
+        User booker = testEntityManager.persist(User.builder()
+                .name("Booker")
+                .email("booker@user.com")
+                .build());
+
+        Item item = testEntityManager.persist(Item.builder()
+                .name("Item")
+                .description("Item")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        testEntityManager.persist(Booking.builder()
+                .start(timestamp.minusDays(3))
+                .end(timestamp.minusDays(2))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        Booking lastBooking = testEntityManager.persist(Booking.builder()
+                .start(timestamp.minusDays(1))
+                .end(timestamp.minusHours(1))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusHours(1))
+                .end(timestamp.plusHours(2))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.WAITING)
+                .build());
+
+        Booking nextBooking = testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusDays(1))
+                .end(timestamp.plusDays(2))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusDays(3))
+                .end(timestamp.plusDays(4))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        assertThat(bookingRepository.findFirstByItemIdAndStartBeforeOrderByEndDesc(item.getId(), timestamp))
+                .contains(lastBooking);
+        assertThat(bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(item.getId(),
+                BookingStatus.APPROVED, timestamp)).contains(nextBooking);
+    }
+
+    @Test
+    public void findLastAndNextBookingsByItemIdInTest() {
+        LocalDateTime timestamp = LocalDateTime.now();
+
+        User owner = testEntityManager.persist(User.builder()
+                .name("Owner")
+                .email("owner@user.com")
+                .build());
+
+        User booker = testEntityManager.persist(User.builder()
+                .name("Booker")
+                .email("booker@user.com")
+                .build());
+
+        Item item1 = testEntityManager.persist(Item.builder()
+                .name("Item1")
+                .description("Item1")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        Item item2 = testEntityManager.persist(Item.builder()
+                .name("Item2")
+                .description("Item2")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        testEntityManager.persist(Booking.builder()
+                .start(timestamp.minusDays(3))
+                .end(timestamp.minusDays(2))
+                .item(item1)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        Booking item1LastBooking = testEntityManager.persist(Booking.builder()
+                .start(timestamp.minusDays(1))
+                .end(timestamp.minusHours(1))
+                .item(item1)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        Booking item1NextBooking = testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusDays(1))
+                .end(timestamp.plusDays(2))
+                .item(item1)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusDays(3))
+                .end(timestamp.plusDays(4))
+                .item(item1)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        Booking item2LastBooking = testEntityManager.persist(Booking.builder()
+                .start(timestamp.minusDays(5))
+                .end(timestamp.minusDays(4))
+                .item(item2)
+                .user(booker)
+                .status(BookingStatus.REJECTED)
+                .build());
+
+        testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusDays(1))
+                .end(timestamp.plusDays(2))
+                .item(item2)
+                .user(booker)
+                .status(BookingStatus.WAITING)
+                .build());
+
+        List<Long> itemsId = List.of(item1.getId(), item2.getId());
+
+        assertThat(bookingRepository.findLastBookingsByItemIdIn(itemsId, timestamp))
+                .containsExactlyInAnyOrder(item1LastBooking, item2LastBooking);
+        assertThat(bookingRepository.findNextBookingsByItemIdIn(itemsId, BookingStatus.APPROVED, timestamp))
+                .containsExactly(item1NextBooking);
+    }
+
+    @Test
+    public void findPageByBookerIdAndItemOwnerIdTest() {
+        LocalDateTime timestamp = LocalDateTime.now().withNano(0);
+
+        User owner = testEntityManager.persist(User.builder()
+                .name("Owner")
+                .email("owner@user.com")
+                .build());
+
+        User booker = testEntityManager.persist(User.builder()
+                .name("Booker")
+                .email("booker@user.com")
+                .build());
+
+        Item item = testEntityManager.persist(Item.builder()
+                .name("Item")
+                .description("Item")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        Booking past = testEntityManager.persist(Booking.builder()
+                .start(timestamp.minusDays(2))
+                .end(timestamp.minusDays(1))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        Booking future1 = testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusDays(1))
+                .end(timestamp.plusDays(2))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.WAITING)
+                .build());
+
+        Booking future2 = testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusDays(1))
+                .end(timestamp.plusDays(3))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        List<BookingResponseDto> firstPage = bookingRepository.findPageByBookerId(booker.getId(),
+                RequestBookingState.ALL, timestamp, null, PageRequest.of(0, 2));
+
+        assertThat(firstPage).extracting(BookingResponseDto::getId)
+                .containsExactly(future2.getId(), future1.getId());
+        assertThat(firstPage.get(0).getItem().getName()).isEqualTo(item.getName());
+        assertThat(firstPage.get(0).getBooker().getId()).isEqualTo(booker.getId());
+
+        BookingResponseDto last = firstPage.get(firstPage.size() - 1);
+        BookingCursor after = new BookingCursor(last.getStart(), last.getId());
+
+        assertThat(bookingRepository.findPageByBookerId(booker.getId(), RequestBookingState.ALL, timestamp, after,
+                PageRequest.of(0, 2))).extracting(BookingResponseDto::getId).containsExactly(past.getId());
+        assertThat(bookingRepository.findPageByBookerId(booker.getId(), RequestBookingState.ALL, timestamp, null,
+                PageRequest.of(1, 2))).extracting(BookingResponseDto::getId).containsExactly(past.getId());
+        assertThat(bookingRepository.findPageByItemOwnerId(owner.getId(), RequestBookingState.FUTURE, timestamp,
+                new BookingCursor(future2.getStart(), future2.getId()), PageRequest.of(0, 2)))
+                .extracting(BookingResponseDto::getId).containsExactly(future1.getId());
+        assertThat(bookingRepository.findPageByItemOwnerId(owner.getId(), RequestBookingState.WAITING, timestamp,
+                null, PageRequest.of(0, 2))).extracting(BookingResponseDto::getId).containsExactly(future1.getId());
+        assertThat(bookingRepository.findPageByBookerId(owner.getId(), RequestBookingState.ALL, timestamp, null,
+                PageRequest.of(0, 2))).isEmpty();
+    }
+
+    @Test
+    public void findPageByItemOwnerIdDeepPageTest() {
+        LocalDateTime timestamp = LocalDateTime.now().withNano(0);
+
+        User owner = testEntityManager.persist(User.builder()
+                .name("Owner")
+                .email("owner@user.com")
+                .build());
+
+        User otherOwner = testEntityManager.persist(User.builder()
+                .name("Other owner")
+                .email("other@user.com")
+                .build());
+
+        User booker = testEntityManager.persist(User.builder()
+                .name("Booker")
+                .email("booker@user.com")
+                .build());
+
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            items.add(testEntityManager.persist(Item.builder()
+                    .name("Item " + i)
+                    .description("Item " + i)
+                    .available(true)
+                    .owner(owner)
+                    .build()));
+        }
+
+        Item otherItem = testEntityManager.persist(Item.builder()
+                .name("Other item")
+                .description("Other item")
+                .available(true)
+                .owner(otherOwner)
+                .build());
+
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            bookings.add(testEntityManager.persist(Booking.builder()
+                    .start(timestamp.minusDays(i / 4))
+                    .end(timestamp.minusDays(i / 4).plusHours(1))
+                    .item(items.get(i % items.size()))
+                    .user(booker)
+                    .status(BookingStatus.APPROVED)
+                    .build()));
+
+            testEntityManager.persist(Booking.builder()
+                    .start(timestamp.minusDays(i / 4))
+                    .end(timestamp.minusDays(i / 4).plusHours(1))
+                    .item(otherItem)
+                    .user(booker)
+                    .status(BookingStatus.APPROVED)
+                    .build());
+        }
+
+        List<Long> expected = bookings.stream()
+                .sorted(Comparator.comparing(Booking::getStart).thenComparing(Booking::getId).reversed())
+                .map(Booking::getId)
+                .collect(Collectors.toList());
+
+        List<Long> bySeek = new ArrayList<>();
+        BookingCursor after = null;
+        List<BookingResponseDto> page;
+        do {
+            page = bookingRepository.findPageByItemOwnerId(owner.getId(), RequestBookingState.ALL, timestamp, after,
+                    PageRequest.of(0, 4));
+            page.forEach(booking -> bySeek.add(booking.getId()));
+            if (!page.isEmpty()) {
+                BookingResponseDto last = page.get(page.size() - 1);
+                after = new BookingCursor(last.getStart(), last.getId());
+            }
+        } while (page.size() == 4);
+
+        assertThat(bySeek).containsExactlyElementsOf(expected);
+
+        for (int pageNumber = 0; pageNumber * 4 < expected.size(); pageNumber++) {
+            assertThat(bookingRepository.findPageByItemOwnerId(owner.getId(), RequestBookingState.ALL, timestamp,
+                    null, PageRequest.of(pageNumber, 4))).extracting(BookingResponseDto::getId)
+                    .containsExactlyElementsOf(expected.subList(pageNumber * 4,
+                            Math.min(pageNumber * 4 + 4, expected.size())));
+        }
+
+        BookingResponseDto deep = bookingRepository.findPageByItemOwnerId(owner.getId(), RequestBookingState.ALL,
+                timestamp, null, PageRequest.of(6, 4)).get(0);
+
+        assertThat(bookingRepository.findPageByItemOwnerId(owner.getId(), RequestBookingState.PAST, timestamp,
+                new BookingCursor(deep.getStart(), deep.getId()), PageRequest.of(0, 10)))
+                .extracting(BookingResponseDto::getId)
+                .containsExactlyElementsOf(expected.subList(25, 30));
+    }
+
+    @Test
+    public void streamAllByBookerIdTest() {
+        LocalDateTime timestamp = LocalDateTime.now().withNano(0);
+
+        User owner = testEntityManager.persist(User.builder()
+                .name("Owner")
+                .email("owner@user.com")
+                .build());
+
+        User booker = testEntityManager.persist(User.builder()
+                .name("Booker")
+                .email("booker@user.com")
+                .build());
+
+        Item item = testEntityManager.persist(Item.builder()
+                .name("Item")
+                .description("Item")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        Booking past = testEntityManager.persist(Booking.builder()
+                .start(timestamp.minusDays(2))
+                .end(timestamp.minusDays(1))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        Booking future = testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusDays(1))
+                .end(timestamp.plusDays(2))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.WAITING)
+                .build());
+
+        try (Stream<BookingResponseDto> bookings = bookingRepository.streamAllByBookerId(booker.getId())) {
+            assertThat(bookings).extracting(BookingResponseDto::getId)
+                    .containsExactly(future.getId(), past.getId());
+        }
+
+        try (Stream<BookingResponseDto> bookings = bookingRepository.streamAllByBookerId(owner.getId())) {
+            assertThat(bookings).isEmpty();
+        }
+    }
+
+    @Test
+    public void existsOverlappingApprovedBookingTest() {
+        LocalDateTime timestamp = LocalDateTime.now().withNano(0);
+
+        User owner = testEntityManager.persist(User.builder()
+                .name("Owner")
+                .email("owner@user.com")
+                .build());
+
+        User booker = testEntityManager.persist(User.builder()
+                .name("Booker")
+                .email("booker@user.com")
+                .build());
+
+        Item item = testEntityManager.persist(Item.builder()
+                .name("Item")
+                .description("Item")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusDays(1))
+                .end(timestamp.plusDays(3))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.APPROVED)
+                .build());
+
+        testEntityManager.persist(Booking.builder()
+                .start(timestamp.plusDays(5))
+                .end(timestamp.plusDays(6))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.WAITING)
+                .build());
+
+        assertThat(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item.getId(),
+                BookingStatus.APPROVED, timestamp.plusDays(2), timestamp)).isTrue();
+        assertThat(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item.getId(),
+                BookingStatus.APPROVED, timestamp.plusDays(4), timestamp.plusDays(2))).isTrue();
+        assertThat(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item.getId(),
+                BookingStatus.APPROVED, timestamp.plusDays(5), timestamp.plusDays(3))).isFalse();
+        assertThat(bookingRepository.existsByItemIdAndStatusAndStartBeforeAndEndAfter(item.getId(),
+                BookingStatus.APPROVED, timestamp.plusDays(7), timestamp.plusDays(4))).isFalse();
+    }
+
+    @Test
+    public void updateStatusIfWaitingTest() {
+        User owner = testEntityManager.persist(User.builder()
+                .name("Owner")
+                .email("owner@user.com")
+                .build());
+
+        User booker = testEntityManager.persist(User.builder()
+                .name("Booker")
+                .email("booker@user.com")
+                .build());
+
+        Item item = testEntityManager.persist(Item.builder()
+                .name("Item")
+                .description("Item")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        Booking booking = testEntityManager.persist(Booking.builder()
+                .start(LocalDateTime.now().plusDays(1))
+                .end(LocalDateTime.now().plusDays(2))
+                .item(item)
+                .user(booker)
+                .status(BookingStatus.WAITING)
+                .build());
+
+        assertThat(bookingRepository.updateStatusIfWaiting(booking.getId(), BookingStatus.APPROVED)).isEqualTo(1);
+        assertThat(bookingRepository.updateStatusIfWaiting(booking.getId(), BookingStatus.REJECTED)).isEqualTo(0);
+
+        Booking updated = testEntityManager.find(Booking.class, booking.getId());
+
+        assertThat(updated.getStatus()).isEqualTo(BookingStatus.APPROVED);
+        assertThat(updated.getVersion()).isEqualTo(1L);
+    }
+}
@@ -0,0 +1,61 @@
+package ru.practicum.shareit.integration;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasItem;
+import static org.hamcrest.Matchers.nullValue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:slowqueries",
+        "shareit.slow-queries.threshold=0ms"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+public class SlowQueryIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void slowQueriesTest() throws Exception {
+        mockMvc.perform(delete("/actuator/slowqueries"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(post("/users")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"name\":\"User\",\"email\":\"user@slowqueries.ru\"}"))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/bookings")
+                        .param("state", "PAST")
+                        .header("X-Sharer-User-Id", 1))
+                .andExpect(status().isOk());
+
+        mockMvc.perform(get("/actuator/slowqueries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[*].method", hasItem("UserRepository.save")))
+                .andExpect(jsonPath("$[*].method", hasItem("BookingRepository.findPageByBookerId")))
+                .andExpect(jsonPath("$[?(@.method == 'UserServiceImpl.addUser')].parameters[*]",
+                        hasItem("1=user@slowqueries.ru")))
+                .andExpect(jsonPath("$[*].plan", hasItem(nullValue())));
+
+        mockMvc.perform(delete("/actuator/slowqueries"))
+                .andExpect(status().isNoContent());
+
+        mockMvc.perform(get("/actuator/slowqueries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", empty()));
+    }
+}
@@ -0,0 +1,185 @@
+package ru.practicum.shareit.integration;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.MethodOrderer;
+import org.junit.jupiter.api.Order;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestMethodOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.annotation.Rollback;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.booking.model.Booking;
+import ru.practicum.shareit.booking.model.BookingStatus;
+import ru.practicum.shareit.item.comment.Comment;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.user.model.User;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import java.time.LocalDateTime;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:statements",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "logging.level.org.hibernate.engine.internal.StatisticalLoggingSessionEventListener=WARN"
+})
+@AutoConfigureMockMvc
+@TestMethodOrder(MethodOrderer.OrderAnnotation.class)
+@ActiveProfiles("test")
+public class StatementCountIntegrationTest {
+    private static final long OWNER_ID = 1L;
+    private static final long BOOKER_ID = 2L;
+    private static final long REQUESTER_ID = 3L;
+    private static final int ITEM_COUNT = 3;
+    private static final int BULK_SIZE = 150;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Test
+    @Order(1)
+    @Transactional
+    @Rollback(false)
+    void fillDatabase() {
+        User owner = getUser("Owner");
+        User booker = getUser("Booker");
+        User requester = getUser("Requester");
+
+        ItemRequest itemRequest = ItemRequest.builder()
+                .description("Request")
+                .requester(requester)
+                .created(LocalDateTime.now())
+                .build();
+        entityManager.persist(itemRequest);
+
+        LocalDateTime now = LocalDateTime.now();
+
+        for (int i = 1; i <= ITEM_COUNT; i++) {
+            Item item = Item.builder()
+                    .name("Item " + i)
+                    .description("Description " + i)
+                    .available(true)
+                    .owner(owner)
+                    .itemRequest(itemRequest)
+                    .build();
+            entityManager.persist(item);
+
+            for (int day = 1; day <= 4; day++) {
+                entityManager.persist(getBooking(item, booker, now.minusDays(day * 2L), now.minusDays(day * 2L - 1)));
+                entityManager.persist(getBooking(item, booker, now.plusDays(day * 2L - 1), now.plusDays(day * 2L)));
+            }
+
+            entityManager.persist(Comment.builder()
+                    .text("Comment " + i)
+                    .item(item)
+                    .author(booker)
+                    .created(now)
+                    .build());
+        }
+    }
+
+    @Test
+    @Order(2)
+    void bookingEndpointsTest() throws Exception {
+        assertStatementCount(get("/bookings/1"), BOOKER_ID, 1);
+        assertStatementCount(get("/bookings").param("size", "20"), BOOKER_ID, 1);
+        assertStatementCount(get("/bookings").param("state", "PAST").param("size", "20"), BOOKER_ID, 1);
+        assertStatementCount(get("/bookings").param("state", "REJECTED").param("size", "20"), BOOKER_ID, 2);
+        assertStatementCount(get("/bookings/owner").param("size", "20"), OWNER_ID, 1);
+        assertStatementCount(get("/bookings/owner").param("after", LocalDateTime.now() + ",1"), OWNER_ID, 1);
+    }
+
+    @Test
+    @Order(3)
+    void itemEndpointsTest() throws Exception {
+        assertStatementCount(get("/items/1"), OWNER_ID, 4);
+        assertStatementCount(get("/items/1"), BOOKER_ID, 0);
+        assertStatementCount(get("/items/1"), OWNER_ID, 0);
+        assertStatementCount(get("/items/2"), BOOKER_ID, 1);
+        assertStatementCount(get("/items"), OWNER_ID, 4);
+        assertStatementCount(get("/items/search").param("text", "item"), BOOKER_ID, 1);
+    }
+
+    @Test
+    @Order(4)
+    void requestEndpointsTest() throws Exception {
+        assertStatementCount(get("/requests"), REQUESTER_ID, 2);
+        assertStatementCount(get("/requests/all"), OWNER_ID, 2);
+        assertStatementCount(get("/requests/1"), OWNER_ID, 2);
+    }
+
+    @Test
+    @Order(5)
+    void userEndpointsTest() throws Exception {
+        assertStatementCount(get("/users/1"), OWNER_ID, 0);
+        assertStatementCount(get("/users"), OWNER_ID, 1);
+        assertStatementCount(get("/users"), OWNER_ID, 0);
+    }
+
+    @Test
+    @Order(6)
+    @Transactional
+    void bulkInsertTest() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        for (int i = 0; i < BULK_SIZE; i++) {
+            getUser("Bulk" + i);
+        }
+        entityManager.flush();
+
+        assertThat(statistics.getEntityInsertCount(), equalTo((long) BULK_SIZE));
+        assertThat(statistics.getPrepareStatementCount(), lessThanOrEqualTo(5L));
+    }
+
+    private void assertStatementCount(MockHttpServletRequestBuilder request, long userId, long expected)
+            throws Exception {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        mockMvc.perform(request.header("X-Sharer-User-Id", userId))
+                .andExpect(status().isOk());
+
+        assertThat(statistics.getPrepareStatementCount(), equalTo(expected));
+    }
+
+    private User getUser(String name) {
+        User user = User.builder()
+                .name(name)
+                .email(name.toLowerCase() + "@user.com")
+                .build();
+
+        entityManager.persist(user);
+
+        return user;
+    }
+
+    private Booking getBooking(Item item, User booker, LocalDateTime start, LocalDateTime end) {
+        return Booking.builder()
+                .status(BookingStatus.APPROVED)
+                .item(item)
+                .user(booker)
+                .start(start)
+                .end(end)
+                .build();
+    }
+}
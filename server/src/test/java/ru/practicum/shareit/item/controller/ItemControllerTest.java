@@ -9,8 +9,12 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import ru.practicum.shareit.item.comment.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.service.ItemImportService;
 import ru.practicum.shareit.item.service.ItemService;
 
+import java.io.BufferedReader;
+
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.List;
@@ -29,6 +33,8 @@ public class ItemControllerTest {
     private ObjectMapper objectMapper;
     @MockBean
     private ItemService itemService;
+    @MockBean
+    private ItemImportService itemImportService;
 
     @Test
     void createTest() throws Exception {
@@ -51,6 +57,28 @@ public class ItemControllerTest {
         verifyNoMoreInteractions(itemService);
     }
 
+    @Test
+    void importTest() throws Exception {
+        ItemImportResultDto result = new ItemImportResultDto();
+        result.setImported(1);
+        result.addError(2, "Некорректный JSON");
+
+        when(itemImportService.importItems(any(BufferedReader.class), eq(1L))).thenReturn(result);
+
+        mockMvc.perform(post("/items/import")
+                        .header("X-Sharer-User-Id", 1)
+                        .content(objectMapper.writeValueAsString(getRequestDto()) + "\n{")
+                        .characterEncoding(StandardCharsets.UTF_8)
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .accept(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.errors[0].row").value(2));
+
+        verify(itemImportService, times(1)).importItems(any(BufferedReader.class), eq(1L));
+        verifyNoMoreInteractions(itemImportService);
+    }
+
     @Test
     void createCommentTest() throws Exception {
         Long userId = 1L;
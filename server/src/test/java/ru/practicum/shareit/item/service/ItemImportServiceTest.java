@@ -0,0 +1,150 @@
+package ru.practicum.shareit.item.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import ru.practicum.shareit.exception.NotFoundException;
+import ru.practicum.shareit.item.dto.ItemImportResultDto;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.item.storage.ItemRepository;
+import ru.practicum.shareit.request.model.ItemRequest;
+import ru.practicum.shareit.request.storage.ItemRequestRepository;
+import ru.practicum.shareit.user.model.User;
+import ru.practicum.shareit.user.storage.UserRepository;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.io.BufferedReader;
+import java.io.StringReader;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ItemImportServiceTest {
+    private static final int BATCH_SIZE = 2;
+
+    @Mock
+    private ItemRepository itemRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ItemRequestRepository itemRequestRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private Session session;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ItemImportServiceImpl itemImportService;
+
+    @BeforeEach
+    void setUp() {
+        itemImportService = new ItemImportServiceImpl(itemRepository, userRepository, itemRequestRepository,
+                new ObjectMapper(), entityManager, transactionManager, BATCH_SIZE);
+    }
+
+    @Test
+    void importItemsTest() throws Exception {
+        String rows = "{\"name\":\"Дрель\",\"description\":\"Простая дрель\",\"available\":true}\n" +
+                "{\"name\":\"Отвертка\",\"description\":\"Аккумуляторная\",\"available\":true,\"requestId\":1}\n" +
+                "\n" +
+                "{\"error\":\"name: must not be blank\"}\n" +
+                "{\"name\":\n" +
+                "{\"name\":\"Пила\",\"description\":\"Ручная\"}\n" +
+                "{\"name\":\"Молоток\",\"description\":\"Большой\",\"available\":false,\"requestId\":2}\n";
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(getUser()));
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(itemRequestRepository.findAllById(Set.of(1L))).thenReturn(List.of(getItemRequest(1L)));
+        when(itemRequestRepository.findAllById(Set.of(2L))).thenReturn(List.of());
+
+        ItemImportResultDto result = itemImportService.importItems(new BufferedReader(new StringReader(rows)), 1L);
+
+        assertThat(result.getImported(), equalTo(2L));
+        assertThat(result.getErrors(), contains(
+                new ItemImportResultDto.RowError(3, "name: must not be blank"),
+                new ItemImportResultDto.RowError(4, "Некорректный JSON"),
+                new ItemImportResultDto.RowError(5, "Не заполнены обязательные поля вещи"),
+                new ItemImportResultDto.RowError(6, "Запросов на данную вещь не найдено")
+        ));
+
+        verify(userRepository, times(1)).findById(1L);
+        verify(itemRequestRepository, times(2)).findAllById(anySet());
+        verify(itemRepository, times(2)).saveAllAndFlush(anyList());
+        verify(session, times(2)).setCacheMode(CacheMode.IGNORE);
+        verify(entityManager, times(2)).clear();
+        verifyNoMoreInteractions(userRepository, itemRequestRepository, itemRepository);
+    }
+
+    @Test
+    void importItemsTest_FailedBatch() throws Exception {
+        String rows = "{\"name\":\"Дрель\",\"description\":\"Простая дрель\",\"available\":true}\n" +
+                "{\"name\":\"Сломанная\",\"description\":\"Не сохраняется\",\"available\":true}\n" +
+                "{\"name\":\"Пила\",\"description\":\"Ручная\",\"available\":true}\n";
+
+        when(userRepository.findById(1L)).thenReturn(Optional.of(getUser()));
+        when(entityManager.unwrap(Session.class)).thenReturn(session);
+        when(itemRepository.saveAllAndFlush(anyList())).thenAnswer(invocation -> {
+            List<Item> items = invocation.getArgument(0);
+            if (items.stream().anyMatch(item -> item.getName().equals("Сломанная"))) {
+                throw new PersistenceException("value too long");
+            }
+            return items;
+        });
+
+        ItemImportResultDto result = itemImportService.importItems(new BufferedReader(new StringReader(rows)), 1L);
+
+        assertThat(result.getImported(), equalTo(2L));
+        assertThat(result.getErrors(), contains(
+                new ItemImportResultDto.RowError(2, "Не удалось сохранить вещь")
+        ));
+
+        verify(itemRepository, times(4)).saveAllAndFlush(anyList());
+    }
+
+    @Test
+    void importItemsTest_UnknownUser() {
+        when(userRepository.findById(1L)).thenReturn(Optional.empty());
+
+        assertThrows(NotFoundException.class,
+                () -> itemImportService.importItems(new BufferedReader(new StringReader("")), 1L));
+
+        verify(userRepository, times(1)).findById(1L);
+        verifyNoMoreInteractions(userRepository, itemRequestRepository, itemRepository);
+    }
+
+    private User getUser() {
+        return User.builder()
+                .id(1L)
+                .name("Owner")
+                .email("owner@user.com")
+                .build();
+    }
+
+    private ItemRequest getItemRequest(Long id) {
+        return ItemRequest.builder()
+                .id(id)
+                .description("Request")
+                .build();
+    }
+}
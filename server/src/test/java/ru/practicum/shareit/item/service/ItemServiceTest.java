@@ -15,6 +15,7 @@ import ru.practicum.shareit.exception.InvalidDataException;
 import ru.practicum.shareit.exception.NotFoundException;
 import ru.practicum.shareit.item.comment.CommentDto;
 import ru.practicum.shareit.item.dto.ItemDto;
+import ru.practicum.shareit.item.mapper.ItemMapper;
 import ru.practicum.shareit.item.comment.Comment;
 import ru.practicum.shareit.item.model.Item;
 import ru.practicum.shareit.item.comment.CommentRepository;
@@ -56,6 +57,9 @@ public class ItemServiceTest {
     @Mock
     private ItemRequestRepository itemRequestRepository;
 
+    @Mock
+    private ItemViewCache itemViewCache;
+
     @Test
     void createTest() {
         User user = getUser(1L);
@@ -114,6 +118,7 @@ public class ItemServiceTest {
         verify(itemRepository, times(1)).findById(eq(item.getId()));
         verify(bookingRepository, times(1)).findCountAllApprovedByItemIdAndUserId(eq(item.getId()), eq(user.getId()), any(LocalDateTime.class));
         verify(commentRepository, times(1)).save(any(Comment.class));
+        verify(itemViewCache, times(1)).evict(eq(item.getId()));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository);
     }
 
@@ -158,11 +163,6 @@ public class ItemServiceTest {
         nextBooking.setStart(LocalDateTime.now().plusDays(1));
         nextBooking.setEnd(LocalDateTime.now().plusDays(2));
 
-        List<Booking> bookingList = Arrays.asList(
-                lastBooking,
-                nextBooking
-        );
-
         Comment comment1 = getComment(1000L);
         comment1.setAuthor(booker);
 
@@ -175,7 +175,12 @@ public class ItemServiceTest {
         );
 
         when(itemRepository.findById(eq(item.getId()))).thenReturn(Optional.ofNullable(item));
-        when(bookingRepository.findAllByItemId(eq(item.getId()))).thenReturn(bookingList);
+        when(bookingRepository.findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(eq(item.getId()),
+                eq(BookingStatus.APPROVED), any(LocalDateTime.class))).thenReturn(Optional.of(nextBooking));
+        when(bookingRepository.findFirstByItemIdAndStartBeforeOrderByEndDesc(eq(item.getId()),
+                any(LocalDateTime.class))).thenReturn(Optional.of(lastBooking));
+        when(bookingRepository.findNextStartByItemId(eq(item.getId()), any(LocalDateTime.class)))
+                .thenReturn(Optional.of(nextBooking.getStart()));
         when(commentRepository.findAllByItemId(eq(item.getId()))).thenReturn(commentList);
 
         ItemDto resultDto = itemService.getItem(item.getId(), owner.getId());
@@ -199,8 +204,14 @@ public class ItemServiceTest {
         assertThat(resultDto.getComments().get(1).getAuthorName(), equalTo(booker.getName()));
 
         verify(itemRepository, times(1)).findById(eq(item.getId()));
-        verify(bookingRepository, times(1)).findAllByItemId(eq(item.getId()));
+        verify(bookingRepository, times(1)).findFirstByItemIdAndStatusAndStartAfterOrderByStartAsc(eq(item.getId()),
+                eq(BookingStatus.APPROVED), any(LocalDateTime.class));
+        verify(bookingRepository, times(1)).findFirstByItemIdAndStartBeforeOrderByEndDesc(eq(item.getId()),
+                any(LocalDateTime.class));
+        verify(bookingRepository, times(1)).findNextStartByItemId(eq(item.getId()), any(LocalDateTime.class));
         verify(commentRepository, times(1)).findAllByItemId(eq(item.getId()));
+        verify(itemViewCache, times(1)).putItemView(any(ItemDto.class), eq(owner.getId()), anyLong());
+        verify(itemViewCache, times(1)).putOwnerView(eq(resultDto), eq(nextBooking.getStart()), anyLong());
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository);
     }
 
@@ -260,9 +271,26 @@ public class ItemServiceTest {
 
         verify(itemRepository, times(1)).findById(eq(item.getId()));
         verify(commentRepository, times(1)).findAllByItemId(eq(item.getId()));
+        verify(itemViewCache, times(1)).putItemView(eq(resultDto), eq(owner.getId()), anyLong());
+        verify(itemViewCache, never()).putOwnerView(any(ItemDto.class), any(), anyLong());
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository);
     }
 
+    @Test
+    void getByIdFromCacheTest() {
+        ItemDto cachedDto = ItemMapper.toDto(getItem(10L));
+
+        when(itemViewCache.get(eq(cachedDto.getId()), eq(1L))).thenReturn(Optional.of(cachedDto));
+
+        ItemDto resultDto = itemService.getItem(cachedDto.getId(), 1L);
+
+        assertThat(resultDto, equalTo(cachedDto));
+
+        verify(itemViewCache, times(1)).get(eq(cachedDto.getId()), eq(1L));
+        verifyNoMoreInteractions(itemViewCache, itemRepository, userRepository, bookingRepository, commentRepository,
+                itemRequestRepository);
+    }
+
     @Test
     void getAllByOwnerIdTest() {
         User owner = getUser(1L);
@@ -274,9 +302,9 @@ public class ItemServiceTest {
         Item item2 = getItem(11L);
         item2.setOwner(owner);
 
-        List<Item> itemList = Arrays.asList(
-                item1,
-                item2
+        List<ItemDto> itemList = Arrays.asList(
+                ItemMapper.toDto(item1),
+                ItemMapper.toDto(item2)
         );
 
         Booking item1lastBooking = getBooking(100L, booker, item1);
@@ -287,11 +315,6 @@ public class ItemServiceTest {
         item1nextBooking.setStart(LocalDateTime.now().plusDays(1));
         item1nextBooking.setEnd(LocalDateTime.now().plusDays(2));
 
-        List<Booking> itemBookingList = Arrays.asList(
-                item1lastBooking,
-                item1nextBooking
-        );
-
         Comment comment1 = getComment(1000L);
         comment1.setItem(item1);
         comment1.setAuthor(booker);
@@ -306,7 +329,10 @@ public class ItemServiceTest {
         );
 
         when(itemRepository.findAllByOwnerId(eq(owner.getId()), any(Pageable.class))).thenReturn(itemList);
-        when(bookingRepository.findAllByItemIdIn(eq(List.of(item1.getId(), item2.getId())))).thenReturn(itemBookingList);
+        when(bookingRepository.findLastBookingsByItemIdIn(eq(List.of(item1.getId(), item2.getId())),
+                any(LocalDateTime.class))).thenReturn(List.of(item1lastBooking));
+        when(bookingRepository.findNextBookingsByItemIdIn(eq(List.of(item1.getId(), item2.getId())),
+                eq(BookingStatus.APPROVED), any(LocalDateTime.class))).thenReturn(List.of(item1nextBooking));
         when(commentRepository.findAllByItemIdIn(eq(List.of(item1.getId(), item2.getId())))).thenReturn(itemCommentList);
 
         List<ItemDto> resultDtoList = itemService.getItemsByUserId(owner.getId(), 0, 10);
@@ -332,7 +358,10 @@ public class ItemServiceTest {
         assertThat(resultDtoList.get(1).getComments().size(), equalTo(0));
 
         verify(itemRepository, times(1)).findAllByOwnerId(eq(owner.getId()), any(Pageable.class));
-        verify(bookingRepository, times(1)).findAllByItemIdIn(eq(List.of(item1.getId(), item2.getId())));
+        verify(bookingRepository, times(1)).findLastBookingsByItemIdIn(eq(List.of(item1.getId(), item2.getId())),
+                any(LocalDateTime.class));
+        verify(bookingRepository, times(1)).findNextBookingsByItemIdIn(eq(List.of(item1.getId(), item2.getId())),
+                eq(BookingStatus.APPROVED), any(LocalDateTime.class));
         verify(commentRepository, times(1)).findAllByItemIdIn(eq(List.of(item1.getId(), item2.getId())));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository);
     }
@@ -344,12 +373,12 @@ public class ItemServiceTest {
         Item item1 = getItem(1L);
         Item item2 = getItem(2L);
 
-        List<Item> itemList = Arrays.asList(
-                item1,
-                item2
+        List<ItemDto> itemList = Arrays.asList(
+                ItemMapper.toDto(item1),
+                ItemMapper.toDto(item2)
         );
 
-        when(itemRepository.findBySearchText(eq(searchText), any(Pageable.class))).thenReturn(itemList);
+        when(itemRepository.search(eq(searchText), any(Pageable.class))).thenReturn(itemList);
 
         List<ItemDto> resultDtoList = itemService.searchItemsForRent(searchText, 0, 10);
 
@@ -365,7 +394,7 @@ public class ItemServiceTest {
         assertThat(resultDtoList.get(1).getDescription(), equalTo(item2.getDescription()));
         assertThat(resultDtoList.get(1).getAvailable(), equalTo(item2.getAvailable()));
 
-        verify(itemRepository, times(1)).findBySearchText(eq(searchText), any(Pageable.class));
+        verify(itemRepository, times(1)).search(eq(searchText), any(Pageable.class));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository);
     }
 
@@ -400,6 +429,7 @@ public class ItemServiceTest {
 
         verify(itemRepository, times(1)).findById(eq(item.getId()));
         verify(itemRepository, times(1)).save(any(Item.class));
+        verify(itemViewCache, times(1)).evict(eq(item.getId()));
         verifyNoMoreInteractions(itemRepository, userRepository, bookingRepository, commentRepository, itemRequestRepository);
     }
 
@@ -0,0 +1,103 @@
+package ru.practicum.shareit.item.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.practicum.shareit.item.comment.CommentDto;
+import ru.practicum.shareit.item.dto.ItemDto;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+
+public class ItemViewCacheTest {
+    private static final Long OWNER_ID = 1L;
+    private static final Long USER_ID = 2L;
+
+    private ItemViewCache itemViewCache;
+
+    @BeforeEach
+    void setUp() {
+        itemViewCache = new ItemViewCache(new ConcurrentMapCacheManager(ItemViewCache.CACHE_NAME));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void getTest_ReturnsCopies() {
+        ItemDto itemDto = getItemDto(10L);
+
+        itemViewCache.putItemView(itemDto, OWNER_ID, itemViewCache.generation(itemDto.getId()));
+        itemDto.setName("Изменено после записи");
+        itemDto.getComments().clear();
+
+        ItemDto cached = itemViewCache.get(itemDto.getId(), USER_ID).orElseThrow();
+        cached.getComments().get(0).setText("Изменено после чтения");
+
+        ItemDto cachedAgain = itemViewCache.get(itemDto.getId(), USER_ID).orElseThrow();
+
+        assertThat(cachedAgain.getName(), equalTo("Item"));
+        assertThat(cachedAgain.getComments().size(), equalTo(1));
+        assertThat(cachedAgain.getComments().get(0).getText(), equalTo("Comment"));
+    }
+
+    @Test
+    void putTest_RejectsViewReadBeforeEviction() {
+        ItemDto itemDto = getItemDto(10L);
+        long generation = itemViewCache.generation(itemDto.getId());
+
+        itemViewCache.evict(itemDto.getId());
+        itemViewCache.putItemView(itemDto, OWNER_ID, generation);
+
+        assertThat(itemViewCache.get(itemDto.getId(), USER_ID).isPresent(), equalTo(false));
+    }
+
+    @Test
+    void putTest_EvictedBeforeReaderCommits() {
+        ItemDto itemDto = getItemDto(10L);
+        long generation = itemViewCache.generation(itemDto.getId());
+
+        TransactionSynchronizationManager.initSynchronization();
+        itemViewCache.putItemView(itemDto, OWNER_ID, generation);
+        List<TransactionSynchronization> readerSynchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertThat(itemViewCache.get(itemDto.getId(), USER_ID).isPresent(), equalTo(false));
+
+        itemViewCache.evict(itemDto.getId());
+        readerSynchronizations.forEach(TransactionSynchronization::afterCommit);
+
+        assertThat(itemViewCache.get(itemDto.getId(), USER_ID).isPresent(), equalTo(false));
+
+        itemViewCache.putItemView(itemDto, OWNER_ID, itemViewCache.generation(itemDto.getId()));
+
+        assertThat(itemViewCache.get(itemDto.getId(), USER_ID).isPresent(), equalTo(true));
+    }
+
+    private ItemDto getItemDto(Long id) {
+        List<CommentDto> comments = new ArrayList<>();
+        comments.add(CommentDto.builder()
+                .id(1L)
+                .text("Comment")
+                .authorName("Booker")
+                .build());
+
+        return ItemDto.builder()
+                .id(id)
+                .name("Item")
+                .description("Description")
+                .available(true)
+                .comments(comments)
+                .build();
+    }
+}
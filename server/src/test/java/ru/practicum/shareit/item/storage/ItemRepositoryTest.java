@@ -0,0 +1,59 @@
+package ru.practicum.shareit.item.storage;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.annotation.Transactional;
+import ru.practicum.shareit.item.mapper.ItemMapper;
+import ru.practicum.shareit.item.model.Item;
+import ru.practicum.shareit.user.model.User;
+
+import static org.assertj.core.api.AssertionsForInterfaceTypes.assertThat;
+
+@DataJpaTest
+@Transactional
+public class ItemRepositoryTest {
+    @Autowired
+    private TestEntityManager testEntityManager;
+
+    @Autowired
+    private ItemRepository itemRepository;
+
+    @Test
+    public void searchTest() {
+        User owner = testEntityManager.persist(User.builder()
+                .name("Owner")
+                .email("owner@user.com")
+                .build());
+
+        Item drill = testEntityManager.persist(Item.builder()
+                .name("Дрель")
+                .description("Простая дрель")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        Item screwdriver = testEntityManager.persist(Item.builder()
+                .name("Отвертка")
+                .description("Аккумуляторная отвертка-ДРЕЛЬ")
+                .available(true)
+                .owner(owner)
+                .build());
+
+        testEntityManager.persist(Item.builder()
+                .name("Дрель ударная")
+                .description("Сломана")
+                .available(false)
+                .owner(owner)
+                .build());
+
+        assertThat(itemRepository.search("дРеЛь", PageRequest.of(0, 10)))
+                .containsExactly(ItemMapper.toDto(drill), ItemMapper.toDto(screwdriver));
+        assertThat(itemRepository.search("дрель", PageRequest.of(0, 1)))
+                .containsExactly(ItemMapper.toDto(drill));
+        assertThat(itemRepository.search("пила", PageRequest.of(0, 10)))
+                .isEmpty();
+    }
+}
@@ -11,6 +11,7 @@ import ru.practicum.shareit.item.storage.ItemRepository;
 import ru.practicum.shareit.request.dto.ItemRequestCreateDto;
 import ru.practicum.shareit.request.dto.ItemRequestCreateResponseDto;
 import ru.practicum.shareit.request.dto.ItemRequestGetResponseDto;
+import ru.practicum.shareit.request.mapper.ItemRequestMapper;
 import ru.practicum.shareit.request.model.ItemRequest;
 import ru.practicum.shareit.request.storage.ItemRequestRepository;
 import ru.practicum.shareit.user.model.User;
@@ -56,14 +57,14 @@ public class ItemRequestServiceTest {
         item2.setOwner(owner);
         item2.setItemRequest(itemRequest2);
 
-        List<ItemRequest> itemRequestList = Arrays.asList(
-                itemRequest1,
-                itemRequest2
+        List<ItemRequestGetResponseDto> itemRequestList = Arrays.asList(
+                ItemRequestMapper.toGetResponseDto(itemRequest1),
+                ItemRequestMapper.toGetResponseDto(itemRequest2)
         );
 
-        when(userRepository.findById(requester.getId())).thenReturn(Optional.ofNullable(requester));
         when(itemRequestRepository.findAllByRequesterIdOrderByCreatedDesc(eq(requester.getId()), any(Pageable.class))).thenReturn(itemRequestList);
-        when(itemRepository.findAllByItemRequestIdIn(eq(List.of(itemRequest1.getId(),itemRequest2.getId())))).thenReturn(Arrays.asList(item1, item2));
+        when(itemRepository.findAllByItemRequestIdIn(eq(List.of(itemRequest1.getId(),itemRequest2.getId())))).thenReturn(Arrays.asList(getRequestedItem(item1),
+                getRequestedItem(item2)));
 
         List<ItemRequestGetResponseDto> resultDtoList = itemRequestService.getAllByRequesterId(requester.getId(), 0, 10);
 
@@ -87,7 +88,6 @@ public class ItemRequestServiceTest {
         assertThat(resultDtoList.get(1).getItems().get(0).getAvailable(), equalTo(item2.getAvailable()));
         assertThat(resultDtoList.get(1).getItems().get(0).getRequestId(), equalTo(11L));
 
-        verify(userRepository, times(1)).findById(eq(requester.getId()));
         verify(itemRequestRepository, times(1)).findAllByRequesterIdOrderByCreatedDesc(eq(requester.getId()), any(Pageable.class));
         verify(itemRepository, times(1)).findAllByItemRequestIdIn(List.of(itemRequest1.getId(),itemRequest2.getId()));
         verifyNoMoreInteractions(itemRequestRepository, userRepository, itemRepository);
@@ -112,9 +112,9 @@ public class ItemRequestServiceTest {
         item2.setOwner(owner);
         item2.setItemRequest(itemRequest2);
 
-        List<ItemRequest> itemRequestList = Arrays.asList(
-                itemRequest1,
-                itemRequest2
+        List<ItemRequestGetResponseDto> itemRequestList = Arrays.asList(
+                ItemRequestMapper.toGetResponseDto(itemRequest1),
+                ItemRequestMapper.toGetResponseDto(itemRequest2)
         );
 
         Map<ItemRequest, List<Item>> itemByGroup = new HashMap<>();
@@ -122,7 +122,8 @@ public class ItemRequestServiceTest {
         itemByGroup.put(itemRequest2, List.of(item2));
 
         when(itemRequestRepository.findAllByRequesterIdNotOrderByCreatedDesc(eq(owner.getId()), any(Pageable.class))).thenReturn(itemRequestList);
-        when(itemRepository.findAllByItemRequestIdIn(eq(List.of(itemRequest1.getId(),itemRequest2.getId())))).thenReturn(Arrays.asList(item1, item2));
+        when(itemRepository.findAllByItemRequestIdIn(eq(List.of(itemRequest1.getId(),itemRequest2.getId())))).thenReturn(Arrays.asList(getRequestedItem(item1),
+                getRequestedItem(item2)));
 
         List<ItemRequestGetResponseDto> resultDtoList = itemRequestService.getAll(owner.getId(), 0, 10);
 
@@ -163,9 +164,9 @@ public class ItemRequestServiceTest {
         item.setOwner(owner);
         item.setItemRequest(itemRequest);
 
-        when(userRepository.findById(eq(requester.getId()))).thenReturn(Optional.of(requester));
+        when(userRepository.existsById(eq(requester.getId()))).thenReturn(true);
         when(itemRequestRepository.findById(eq(itemRequest.getId()))).thenReturn(Optional.of(itemRequest));
-        when(itemRepository.findAllByItemRequestIdIn(eq(List.of(itemRequest.getId())))).thenReturn(List.of(item));
+        when(itemRepository.findAllByItemRequestIdIn(eq(List.of(itemRequest.getId())))).thenReturn(List.of(getRequestedItem(item)));
 
         ItemRequestGetResponseDto resultDto = itemRequestService.getById(requester.getId(), itemRequest.getId());
 
@@ -178,7 +179,7 @@ public class ItemRequestServiceTest {
         assertThat(resultDto.getItems().get(0).getAvailable(), equalTo(item.getAvailable()));
         assertThat(resultDto.getItems().get(0).getRequestId(), equalTo(10L));
 
-        verify(userRepository, times(1)).findById(eq(requester.getId()));
+        verify(userRepository, times(1)).existsById(eq(requester.getId()));
         verify(itemRequestRepository, times(1)).findById(eq(itemRequest.getId()));
         verify(itemRepository, times(1)).findAllByItemRequestIdIn(eq(List.of(itemRequest.getId())));
         verifyNoMoreInteractions(itemRequestRepository, userRepository, itemRepository);
@@ -227,4 +228,9 @@ public class ItemRequestServiceTest {
                 .available(true)
                 .build();
     }
-}
\ No newline at end of file
+
+    private ItemRequestGetResponseDto.RequestedItem getRequestedItem(Item item) {
+        return new ItemRequestGetResponseDto.RequestedItem(item.getId(), item.getName(), item.getDescription(),
+                item.getAvailable(), item.getItemRequest().getId());
+    }
+}